@@ -2,10 +2,19 @@ package com.att.tdp.popcorn_palace;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.core.Ordered;
 import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
-@EnableRetry
+// R2DBC is wired by ReactiveStackConfig for the reactive profile only
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
+// Retries run outside the transaction, with BookingAttemptObservation and then BookingAttemptRecorder
+// in between, so each attempt gets its own span and event
+@EnableRetry(order = Ordered.LOWEST_PRECEDENCE - 3)
+@EnableAsync
+@EnableScheduling
 public class PopcornPalaceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,101 @@
+package com.att.tdp.popcorn_palace.config;
+
+import com.att.tdp.popcorn_palace.controller.BookingController;
+import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Support for the {@code lazy} profile ({@code spring.main.lazy-initialization=true}), which scale-out
+ * instances start with. Beans are created on first use, except the booking endpoint with everything
+ * it depends on, and beans with {@code @Scheduled} methods, whose jobs would otherwise never be
+ * registered. Once the application is ready, {@code popcorn-palace.startup.warm-up} runs the booking
+ * reads once, so the first booking does not pay for the first pool connection, Hibernate's query
+ * plans or the JSON and validation metadata of {@link BookingDTO}.
+ * <p>
+ * None of this is conditional on the lazy property: an AOT-processed build fixes its bean set at
+ * build time, and the same build has to start both ways.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+public class LazyStartupConfig {
+
+    private final ObjectProvider<ShowtimeRepository> showtimeRepository;
+    private final ObjectProvider<BookingRepository> bookingRepository;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+    private final ObjectProvider<ObjectMapper> objectMapper;
+    private final ObjectProvider<Validator> validator;
+    private final boolean warmUp;
+
+    public LazyStartupConfig(ObjectProvider<ShowtimeRepository> showtimeRepository,
+                             ObjectProvider<BookingRepository> bookingRepository,
+                             ObjectProvider<PlatformTransactionManager> transactionManager,
+                             ObjectProvider<ObjectMapper> objectMapper,
+                             ObjectProvider<Validator> validator,
+                             @Value("${popcorn-palace.startup.warm-up:false}") boolean warmUp) {
+        this.showtimeRepository = showtimeRepository;
+        this.bookingRepository = bookingRepository;
+        this.transactionManager = transactionManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.warmUp = warmUp;
+    }
+
+    @Bean
+    static LazyInitializationExcludeFilter bookingPathExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(BookingController.class);
+    }
+
+    @Bean
+    static LazyInitializationExcludeFilter scheduledJobsExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && AnnotationUtils.isCandidateClass(beanType, Scheduled.class)
+                && !MethodIntrospector.selectMethods(beanType, (MethodIntrospector.MetadataLookup<Scheduled>)
+                        method -> AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class)).isEmpty();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpBookingPath() {
+        if (!warmUp) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            BookingDTO bookingDTO = objectMapper.getObject().readValue(
+                    "{\"showtimeId\":-1,\"seatNumber\":1,\"userId\":\"warm-up\"}", BookingDTO.class);
+            validator.getObject().validate(bookingDTO);
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager.getObject());
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> {
+                // There is no showtime -1; the seat check still needs one to bind its id and start time
+                Showtime showtime = showtimeRepository.getObject().findById(bookingDTO.getShowtimeId())
+                        .orElseGet(() -> new Showtime(bookingDTO.getShowtimeId(), null, null,
+                                ZonedDateTime.now(), ZonedDateTime.now(), 0, 0L));
+                bookingRepository.getObject().existsByShowtimeAndSeatNumber(showtime, bookingDTO.getSeatNumber());
+            });
+            log.info("Booking path warmed up in {} ms", (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            // Only the first booking gets slower
+            log.warn("Could not warm up the booking path", e);
+        }
+    }
+}
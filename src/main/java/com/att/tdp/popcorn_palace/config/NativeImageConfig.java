@@ -0,0 +1,79 @@
+package com.att.tdp.popcorn_palace.config;
+
+import com.att.tdp.popcorn_palace.dto.ArchivedShowtime;
+import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.dto.MovieDTO;
+import com.att.tdp.popcorn_palace.dto.MovieImportResult;
+import com.att.tdp.popcorn_palace.dto.ShowtimeDTO;
+import com.att.tdp.popcorn_palace.exception.ErrorResponse;
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.OutboxEvent;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Reachability metadata for the native image ({@code mvn -Pnative native:compile}) that Spring's AOT
+ * processing does not derive from the bean definitions by itself. Written out with the rest of the
+ * generated metadata under {@code target/spring-aot/main/resources/META-INF/native-image}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeImageConfig.Hints.class)
+public class NativeImageConfig {
+
+    static final List<Class<?>> ENTITIES = List.of(Movie.class, Showtime.class, Booking.class, OutboxEvent.class);
+    static final List<Class<?>> VALIDATED_DTOS = List.of(BookingDTO.class, MovieDTO.class, ShowtimeDTO.class);
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Hibernate instantiates the entities and accesses their fields reflectively; they are
+            // also serialized as responses
+            for (Class<?> entity : ENTITIES) {
+                hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            // Jackson goes through the Lombok-generated constructors, getters and setters, Hibernate
+            // Validator through the constrained fields
+            BindingReflectionHintsRegistrar binding = new BindingReflectionHintsRegistrar();
+            binding.registerReflectionHints(hints.reflection(), ENTITIES.toArray(Class<?>[]::new));
+            binding.registerReflectionHints(hints.reflection(), VALIDATED_DTOS.toArray(Class<?>[]::new));
+            binding.registerReflectionHints(hints.reflection(), ArchivedShowtime.class,
+                    MovieImportResult.class, ErrorResponse.class);
+            for (Class<?> dto : VALIDATED_DTOS) {
+                hints.reflection().registerType(dto, MemberCategory.DECLARED_FIELDS);
+            }
+
+            // spring-retry reads @Retryable and @Backoff as merged annotations; having @AliasFor
+            // attributes, they are synthesized as JDK proxies
+            hints.proxies().registerJdkProxy(Retryable.class);
+            hints.proxies().registerJdkProxy(Backoff.class);
+
+            // ObservedDataSource wraps each connection, statement and result set in a JDK proxy
+            for (Class<?> jdbcType : List.of(Connection.class, Statement.class, PreparedStatement.class,
+                    CallableStatement.class, ResultSet.class)) {
+                hints.proxies().registerJdkProxy(jdbcType);
+            }
+
+            // The Caffeine JCache regions, and migrations outside Flyway's default location
+            hints.resources().registerPattern("application.conf");
+            hints.resources().registerPattern("db/vendor/*/*.sql");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.att.tdp.popcorn_palace.config;
+
+// Per-request flag that keeps reads on the primary once the caller has written, so a client never
+// reads an older state from a lagging replica than the one it just produced.
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<State> STATE = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void begin(boolean pinned) {
+        State state = new State();
+        state.pinned = pinned;
+        STATE.set(state);
+    }
+
+    public static void clear() {
+        STATE.remove();
+    }
+
+    public static boolean isPinned() {
+        State state = STATE.get();
+        return state != null && state.pinned;
+    }
+
+    // Only pins inside a request; background threads have no context and always read from the replica
+    static void pin() {
+        State state = STATE.get();
+        if (state != null) {
+            state.pinned = true;
+        }
+    }
+
+    private static final class State {
+        private boolean pinned;
+    }
+}
@@ -0,0 +1,72 @@
+package com.att.tdp.popcorn_palace.config;
+
+import com.att.tdp.popcorn_palace.observability.ObservedDataSource;
+import com.att.tdp.popcorn_palace.observability.SqlObserver;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+
+// Wires SqlObserver in: the application's DataSource reports its statements to it, and each HTTP
+// request is a scope for N+1 detection
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "popcorn-palace.sql-observer.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlObserverConfig {
+
+    // Static and lazy, so the post-processor does not pull the observer's dependencies in early
+    @Bean
+    public static BeanPostProcessor observedDataSourcePostProcessor(ObjectProvider<SqlObserver> observer,
+                                                                    ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Only the one everything uses; the replica setup's pools sit behind it
+                if (beanName.equals("dataSource") && bean instanceof DataSource dataSource
+                        && !(bean instanceof ObservedDataSource)) {
+                    return new ObservedDataSource(dataSource, observer.getObject(),
+                            observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+                }
+                return bean;
+            }
+        };
+    }
+
+    // ObservedDataSource's observations are there for the spans. Spring Boot would also make each one a
+    // timer, counting and timing every statement a second time next to the observer's sql.statements.
+    @Bean
+    public MeterFilter jdbcObservationMeterFilter() {
+        return MeterFilter.deny(id -> id.getName().startsWith("jdbc.query")
+                || id.getName().startsWith("jdbc.connection.acquire"));
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public OncePerRequestFilter sqlObserverFilter(SqlObserver observer) {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                    throws ServletException, IOException {
+                observer.beginRequest();
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                    observer.endRequest(request.getMethod() + " " + (pattern == null ? "UNKNOWN" : pattern));
+                }
+            }
+        };
+    }
+}
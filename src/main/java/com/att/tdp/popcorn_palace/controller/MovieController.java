@@ -1,26 +1,35 @@
 package com.att.tdp.popcorn_palace.controller;
 
 import com.att.tdp.popcorn_palace.dto.MovieDTO;
+import com.att.tdp.popcorn_palace.dto.MovieImportResult;
 import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.service.MovieImportService;
 import com.att.tdp.popcorn_palace.service.MovieService;
 
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/movies")
 public class MovieController {
 
     private final MovieService movieService;
+    private final MovieImportService movieImportService;
 
     @Autowired
-    public MovieController(MovieService movieService) {
+    public MovieController(MovieService movieService, MovieImportService movieImportService) {
         this.movieService = movieService;
+        this.movieImportService = movieImportService;
     }
 
     @GetMapping("/all")
@@ -28,11 +37,27 @@ public class MovieController {
         return ResponseEntity.ok(movieService.getAllMovies());
     }
 
+    // GET /movies?ids=3,1,2 returns the movies that exist, in the requested order
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Movie>> getMovies(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(movieService.getMovies(ids));
+    }
+
     @PostMapping
     public ResponseEntity<Movie> addMovie(@Valid @RequestBody MovieDTO movieDTO) {
         return ResponseEntity.ok(movieService.addMovie(movieDTO));
     }
 
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<MovieImportResult> importMoviesCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(movieImportService.importCsv(body));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<MovieImportResult> importMoviesNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(movieImportService.importNdjson(body));
+    }
+
     @PostMapping("/update/{title}")
     public ResponseEntity<Movie> updateMovie(@PathVariable String title, @Valid @RequestBody MovieDTO movieDTO) {
         return ResponseEntity.ok(movieService.updateMovie(title, movieDTO));
@@ -40,7 +65,12 @@ public class MovieController {
 
     @Transactional
     @DeleteMapping("/{title}")
-    public ResponseEntity<Void> deleteMovie(@PathVariable String title) {
+    public ResponseEntity<Void> deleteMovie(@PathVariable String title,
+                                            @RequestParam(defaultValue = "false") boolean background) {
+        if (background) {
+            movieService.deleteMovieInBackground(title);
+            return ResponseEntity.accepted().build();
+        }
         movieService.deleteMovie(title);
         return ResponseEntity.ok().build();
     }
@@ -0,0 +1,32 @@
+package com.att.tdp.popcorn_palace.controller;
+
+import com.att.tdp.popcorn_palace.exception.showtime.ShowtimeNotFoundException;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.ReactiveCatalogRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+// Read-only counterpart of ShowtimeController for the "reactive" profile
+@RestController
+@RequestMapping("/showtimes")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveShowtimeController {
+
+    private final ReactiveCatalogRepository catalogRepository;
+
+    @Autowired
+    public ReactiveShowtimeController(ReactiveCatalogRepository catalogRepository) {
+        this.catalogRepository = catalogRepository;
+    }
+
+    @GetMapping("/{id}")
+    public Mono<Showtime> getShowtime(@PathVariable Long id) {
+        return catalogRepository.findShowtimeById(id)
+                .switchIfEmpty(Mono.error(() -> new ShowtimeNotFoundException(id)));
+    }
+}
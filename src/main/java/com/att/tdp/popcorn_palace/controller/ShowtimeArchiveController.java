@@ -0,0 +1,33 @@
+package com.att.tdp.popcorn_palace.controller;
+
+import com.att.tdp.popcorn_palace.dto.ArchivedShowtime;
+import com.att.tdp.popcorn_palace.service.ShowtimeArchiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/archive/showtimes")
+public class ShowtimeArchiveController {
+
+    private final ShowtimeArchiveService showtimeArchiveService;
+
+    @Autowired
+    public ShowtimeArchiveController(ShowtimeArchiveService showtimeArchiveService) {
+        this.showtimeArchiveService = showtimeArchiveService;
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ArchivedShowtime> getArchivedShowtime(@PathVariable Long id) {
+        return ResponseEntity.ok(showtimeArchiveService.getArchivedShowtime(id));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ArchivedShowtime>> getArchivedShowtimes(@RequestParam Long movieId) {
+        return ResponseEntity.ok(showtimeArchiveService.getArchivedShowtimesForMovie(movieId));
+    }
+}
@@ -5,14 +5,17 @@ import com.att.tdp.popcorn_palace.model.Showtime;
 import com.att.tdp.popcorn_palace.service.ShowtimeService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/showtimes")
 public class ShowtimeController {
 
@@ -29,6 +32,12 @@ public class ShowtimeController {
         return ResponseEntity.ok(showtime);
     }
 
+    // GET /showtimes?ids=3,1,2 returns the showtimes that exist, in the requested order
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Showtime>> getShowtimes(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(showtimeService.getShowtimes(ids));
+    }
+
     @PostMapping
     public ResponseEntity<Showtime> addShowtime(@Valid @RequestBody ShowtimeDTO showtimeDTO) {
         Showtime showtime = showtimeService.addShowtime(showtimeDTO);
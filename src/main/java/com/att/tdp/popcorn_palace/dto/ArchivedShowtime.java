@@ -0,0 +1,31 @@
+package com.att.tdp.popcorn_palace.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedShowtime {
+    private Long id;
+    private Long movieId;
+    private String theater;
+    private ZonedDateTime startTime;
+    private ZonedDateTime endTime;
+    private double price;
+    private List<ArchivedBooking> bookings = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ArchivedBooking {
+        private Long id;
+        private Integer seatNumber;
+        private String userId;
+    }
+}
@@ -0,0 +1,106 @@
+package com.att.tdp.popcorn_palace.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Classifies a constraint violation by its SQLSTATE and, where Hibernate reports it, the violated
+ * constraint's name. Both are stable across H2 and PostgreSQL, unlike the message text. Batched
+ * statements fail with a BatchUpdateException that Hibernate cannot name; those still classify by
+ * SQLSTATE alone.
+ */
+public enum DataIntegrityViolation {
+
+    SEAT_ALREADY_BOOKED(HttpStatus.CONFLICT, "Seat Already Booked", "The seat is already booked for this showtime."),
+    MOVIE_ALREADY_EXISTS(HttpStatus.CONFLICT, "Movie Already Exists", "A movie with this title already exists."),
+    UNIQUE_KEY(HttpStatus.CONFLICT, "Resource Conflict", "The resource already exists or has been modified by another user."),
+    FOREIGN_KEY(HttpStatus.CONFLICT, "Referenced Resource Conflict", "The resource references a missing resource or is still referenced by another one."),
+    INVALID_DATA(HttpStatus.BAD_REQUEST, "Invalid Data", "The request contains a value the database does not accept."),
+    OTHER(HttpStatus.INTERNAL_SERVER_ERROR, "Data Integrity Violation", null);
+
+    static final String UNIQUE_VIOLATION = "23505";
+    static final String FOREIGN_KEY_VIOLATION = "23503";
+    // H2 reports a missing parent row separately from a parent that is still referenced
+    static final String H2_PARENT_MISSING = "23506";
+    static final String NOT_NULL_VIOLATION = "23502";
+    static final String CHECK_VIOLATION = "23514";
+    static final String STRING_TOO_LONG = "22001";
+
+    private final HttpStatus status;
+    private final String error;
+    private final String message;
+
+    DataIntegrityViolation(HttpStatus status, String error, String message) {
+        this.status = status;
+        this.error = error;
+        this.message = message;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isUniqueKey() {
+        return this == SEAT_ALREADY_BOOKED || this == MOVIE_ALREADY_EXISTS || this == UNIQUE_KEY;
+    }
+
+    public static DataIntegrityViolation of(Throwable ex) {
+        String sqlState = null;
+        String constraintName = null;
+        for (Throwable cause = ex; cause != null && cause.getCause() != cause; cause = cause.getCause()) {
+            if (constraintName == null && cause instanceof ConstraintViolationException violation) {
+                constraintName = violation.getConstraintName();
+            }
+            if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null) {
+                sqlState = sqlException.getSQLState();
+                break;
+            }
+        }
+        if (sqlState == null) {
+            // Spring only translates unique violations into DuplicateKeyException
+            return ex instanceof DuplicateKeyException ? uniqueKey(constraintName) : OTHER;
+        }
+        return switch (sqlState) {
+            case UNIQUE_VIOLATION -> uniqueKey(constraintName);
+            case FOREIGN_KEY_VIOLATION, H2_PARENT_MISSING -> FOREIGN_KEY;
+            case NOT_NULL_VIOLATION, CHECK_VIOLATION, STRING_TOO_LONG -> INVALID_DATA;
+            default -> OTHER;
+        };
+    }
+
+    // H2 reports the backing index with its table ("PUBLIC.UK_BOOKINGS_SHOWTIME_SEAT_INDEX_3 ON
+    // PUBLIC.BOOKINGS(...)"), hence the first token and the prefix match
+    private static DataIntegrityViolation uniqueKey(String constraintName) {
+        if (constraintName == null) {
+            return UNIQUE_KEY;
+        }
+        String name = constraintName.toLowerCase(Locale.ROOT).strip();
+        int end = name.indexOf(' ');
+        if (end >= 0) {
+            name = name.substring(0, end);
+        }
+        int schema = name.lastIndexOf('.');
+        if (schema >= 0) {
+            name = name.substring(schema + 1);
+        }
+        if (name.startsWith("uk_bookings_showtime_seat")) {
+            return SEAT_ALREADY_BOOKED;
+        }
+        if (name.startsWith("uk_movies_title")) {
+            return MOVIE_ALREADY_EXISTS;
+        }
+        return UNIQUE_KEY;
+    }
+}
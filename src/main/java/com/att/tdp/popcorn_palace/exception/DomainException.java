@@ -0,0 +1,13 @@
+package com.att.tdp.popcorn_palace.exception;
+
+/**
+ * Base class for the expected business outcomes that become 4xx responses. They carry no stack
+ * trace: under contention most booking attempts end in one, and the handler only needs the
+ * message, so filling in the trace would be the most expensive part of a 409.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -6,6 +6,7 @@ import com.att.tdp.popcorn_palace.exception.movie.MovieNotFoundException;
 import com.att.tdp.popcorn_palace.exception.showtime.OverlappingShowtimeException;
 import com.att.tdp.popcorn_palace.exception.showtime.ShowtimeNotFoundException;
 import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -57,12 +58,19 @@ public class GlobalExceptionHandler {
         return buildError(HttpStatus.CONFLICT, "Concurrent Modification", "The resource was modified by another user. Please try again.");
     }
 
+    // Serialization failures (40001) and deadlocks (40P01) that outlasted the booking retries
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyFailureException(ConcurrencyFailureException ex) {
+        return buildError(HttpStatus.CONFLICT, "Concurrent Modification", "The resource was modified by another user. Please try again.");
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
-        if (ex.getMessage() != null && ex.getMessage().contains("unique constraint")) {
-            return buildError(HttpStatus.CONFLICT, "Resource Conflict", "The resource already exists or has been modified by another user.");
+        DataIntegrityViolation violation = DataIntegrityViolation.of(ex);
+        if (violation == DataIntegrityViolation.OTHER) {
+            return buildError(violation.getStatus(), violation.getError(), ex.getMessage());
         }
-        return buildError(HttpStatus.INTERNAL_SERVER_ERROR, "Data Integrity Violation", ex.getMessage());
+        return buildError(violation.getStatus(), violation.getError(), violation.getMessage());
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
@@ -1,6 +1,8 @@
 package com.att.tdp.popcorn_palace.exception.booking;
 
-public class SeatAlreadyBookedException extends RuntimeException {
+import com.att.tdp.popcorn_palace.exception.DomainException;
+
+public class SeatAlreadyBookedException extends DomainException {
     public SeatAlreadyBookedException(Long showtimeId, Integer seatNumber) {
         super("Seat " + seatNumber + " is already booked for showtime with ID " + showtimeId);
     }
@@ -1,6 +1,8 @@
 package com.att.tdp.popcorn_palace.exception.movie;
 
-public class MovieAlreadyExistsException extends RuntimeException {
+import com.att.tdp.popcorn_palace.exception.DomainException;
+
+public class MovieAlreadyExistsException extends DomainException {
     public MovieAlreadyExistsException(String title) {
         super("Movie with title '" + title + "' already exists");
     }
@@ -1,6 +1,8 @@
 package com.att.tdp.popcorn_palace.exception.movie;
 
-public class MovieNotFoundException extends RuntimeException {
+import com.att.tdp.popcorn_palace.exception.DomainException;
+
+public class MovieNotFoundException extends DomainException {
     public MovieNotFoundException(String title) {
         super("Movie with title '" + title + "' not found");
     }
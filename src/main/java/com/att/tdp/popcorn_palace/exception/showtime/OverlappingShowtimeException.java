@@ -1,6 +1,8 @@
 package com.att.tdp.popcorn_palace.exception.showtime;
 
-public class OverlappingShowtimeException extends RuntimeException {
+import com.att.tdp.popcorn_palace.exception.DomainException;
+
+public class OverlappingShowtimeException extends DomainException {
     public OverlappingShowtimeException(String theater, String startTime, String endTime) {
         super("There is already a showtime in theater '" + theater + 
               "' between " + startTime + " and " + endTime);
@@ -1,6 +1,8 @@
 package com.att.tdp.popcorn_palace.exception.showtime;
 
-public class ShowtimeNotFoundException extends RuntimeException {
+import com.att.tdp.popcorn_palace.exception.DomainException;
+
+public class ShowtimeNotFoundException extends DomainException {
     public ShowtimeNotFoundException(Long id) {
         super("Showtime with ID " + id + " not found");
     }
@@ -5,22 +5,30 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.ZonedDateTime;
+
 @Entity
 @Table(name = "bookings", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"showtime_id", "seat_number"})
+    @UniqueConstraint(name = "uk_bookings_showtime_seat", columnNames = {"showtime_id", "seat_number"})
 })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Booking {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq",
+            allocationSize = Sequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "showtime_id", nullable = false)
     private Showtime showtime;
 
+    // Copy of showtime.startTime: the partition key of bookings on PostgreSQL
+    @Column(name = "showtime_start", nullable = false)
+    private ZonedDateTime showtimeStart;
+
     @Column(name = "seat_number", nullable = false)
     private Integer seatNumber;
 
@@ -29,4 +37,11 @@ public class Booking {
 
     @Version
     private Long version;
+
+    @PrePersist
+    void copyShowtimeStart() {
+        if (showtimeStart == null && showtime != null) {
+            showtimeStart = showtime.getStartTime();
+        }
+    }
 } 
\ No newline at end of file
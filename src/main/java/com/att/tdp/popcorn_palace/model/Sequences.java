@@ -0,0 +1,21 @@
+package com.att.tdp.popcorn_palace.model;
+
+/**
+ * Id sequence settings shared by the entities' {@code @SequenceGenerator}s and the ids handed out
+ * outside Hibernate ({@code SequenceIdAllocator}). The migrations create the sequences with the same
+ * {@code INCREMENT BY}; Hibernate refuses to start when a sequence's increment differs.
+ * <p>
+ * The migrations also start every sequence at {@code ALLOCATION_SIZE + 1}. A value read from the
+ * sequence then always stands for the block of ids up to it, the rule both Hibernate's pooled
+ * optimizer and {@code SequenceIdAllocator} follow. Only the generators' initial value 1 is
+ * special-cased, and not the same way across Hibernate versions: 6.x takes it as a block of its own,
+ * while 5.x read again and took everything up to the second value, overlapping any block another
+ * node took in between.
+ */
+public final class Sequences {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private Sequences() {
+    }
+}
@@ -4,17 +4,24 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "showtimes")
 @Table(name = "showtimes")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Showtime {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "showtimes_seq")
+    @SequenceGenerator(name = "showtimes_seq", sequenceName = "showtimes_seq",
+            allocationSize = Sequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,4 +42,12 @@ public class Showtime {
 
     @Version
     private Long version;
+
+    // Match the column precision so in-memory values equal what bookings.showtime_start stores
+    @PrePersist
+    @PreUpdate
+    void truncateToColumnPrecision() {
+        startTime = startTime == null ? null : startTime.truncatedTo(ChronoUnit.MICROS);
+        endTime = endTime == null ? null : endTime.truncatedTo(ChronoUnit.MICROS);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.att.tdp.popcorn_palace.observability;
+
+import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.support.RetrySynchronizationManager;
+import org.springframework.stereotype.Component;
+
+// A booking.attempt span per @Retryable attempt, under the request's span. Sits inside the retry
+// advice and outside the transaction, so the backoff is the gap between two attempts and each
+// attempt's queries and commit are its children. BookingAttemptRecorder runs inside it.
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class BookingAttemptObservation {
+
+    private final ObservationRegistry observationRegistry;
+
+    @Autowired
+    public BookingAttemptObservation(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("execution(* com.att.tdp.popcorn_palace.service.BookingService.createBooking(..))")
+    public Object observeAttempt(ProceedingJoinPoint joinPoint) throws Throwable {
+        RetryContext retry = RetrySynchronizationManager.getContext();
+        int attempt = retry == null ? 1 : retry.getRetryCount() + 1;
+        Observation observation = Observation.createNotStarted("booking.attempt", observationRegistry)
+                .contextualName("booking attempt " + attempt)
+                .lowCardinalityKeyValue("attempt", String.valueOf(attempt));
+        if (joinPoint.getArgs()[0] instanceof BookingDTO bookingDTO) {
+            observation.highCardinalityKeyValue("showtime.id", String.valueOf(bookingDTO.getShowtimeId()))
+                    .highCardinalityKeyValue("seat.number", String.valueOf(bookingDTO.getSeatNumber()));
+        }
+        observation.start();
+
+        String outcome = "created";
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = BookingMetrics.outcomeOf(e);
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.lowCardinalityKeyValue("outcome", outcome).stop();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.att.tdp.popcorn_palace.observability;
+
+import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.exception.booking.SeatAlreadyBookedException;
+import com.att.tdp.popcorn_palace.exception.showtime.ShowtimeNotFoundException;
+import com.att.tdp.popcorn_palace.observability.jfr.BookingEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.OptimisticLockException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters for {@code POST /bookings}:
+ * <ul>
+ *   <li>{@code booking.create}: the whole {@code BookingService.createBooking} call, including its
+ *   retries and commit, tagged with its {@code outcome}</li>
+ *   <li>{@code booking.retries}: attempts that {@code @Retryable} ran again</li>
+ *   <li>{@code spring.data.repository.invocations}: each DB step. Spring Boot records it for the
+ *   Spring Data repositories; the calls to {@code JdbcBookingRepository} are added here with the
+ *   same tags</li>
+ * </ul>
+ * Connection pool wait is Hikari's own {@code hikaricp.connections.acquire}. Attempts and conflicts
+ * per showtime go to {@link ShowtimeContentionEndpoint}, and each call is also a JFR {@link BookingEvent}.
+ */
+@Aspect
+@Component("bookingMetrics")
+// Outside the retry and transaction advice, so every attempt and the commit are timed
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class BookingMetrics implements RetryListener {
+
+    private final MeterRegistry meterRegistry;
+    private final ShowtimeContentionEndpoint contention;
+    private final Counter retries;
+
+    @Autowired
+    public BookingMetrics(MeterRegistry meterRegistry, ShowtimeContentionEndpoint contention) {
+        this.meterRegistry = meterRegistry;
+        this.contention = contention;
+        this.retries = Counter.builder("booking.retries")
+                .description("Booking attempts retried after an optimistic lock or serialization failure")
+                .register(meterRegistry);
+    }
+
+    @Around("execution(* com.att.tdp.popcorn_palace.service.BookingService.createBooking(..))")
+    public Object timeBooking(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        BookingEvent event = new BookingEvent();
+        event.begin();
+        String outcome = "created";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("booking.create")
+                    .description("Time to create a booking, including retries")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            // Read rather than bound: binding needs advice ordered after ExposeInvocationInterceptor
+            if (joinPoint.getArgs()[0] instanceof BookingDTO bookingDTO && bookingDTO.getShowtimeId() != null) {
+                contention.recordBooking(bookingDTO.getShowtimeId(),
+                        outcome.equals("seat_taken") || outcome.equals("optimistic_lock")
+                                || outcome.equals("serialization_failure"));
+                event.end();
+                if (event.shouldCommit()) {
+                    event.showtimeId = bookingDTO.getShowtimeId();
+                    event.seatNumber = bookingDTO.getSeatNumber() == null ? 0 : bookingDTO.getSeatNumber();
+                    event.outcome = outcome;
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    @Around("execution(public * com.att.tdp.popcorn_palace.repository.JdbcBookingRepository.*(..))")
+    public Object timeJdbcStep(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String state = "SUCCESS";
+        String exception = "None";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            state = "ERROR";
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("spring.data.repository.invocations")
+                    .tag("repository", "JdbcBookingRepository")
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("state", state)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback,
+                                               Throwable throwable) {
+        // The retry count includes the failed attempt that ended the call, which was not retried
+        int retried = context.getRetryCount() - (throwable == null ? 0 : 1);
+        if (retried > 0) {
+            retries.increment(retried);
+        }
+    }
+
+    public static String outcomeOf(Throwable e) {
+        if (e instanceof SeatAlreadyBookedException) {
+            return "seat_taken";
+        }
+        if (e instanceof ShowtimeNotFoundException) {
+            return "showtime_missing";
+        }
+        if (e instanceof OptimisticLockException || e instanceof OptimisticLockingFailureException) {
+            return "optimistic_lock";
+        }
+        if (e instanceof ConcurrencyFailureException) {
+            return "serialization_failure";
+        }
+        return "error";
+    }
+}
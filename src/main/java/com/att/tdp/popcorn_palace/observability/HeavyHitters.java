@@ -0,0 +1,143 @@
+package com.att.tdp.popcorn_palace.observability;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Approximate per-key attempt and conflict counts in fixed memory: a count-min sketch of
+ * {@link #DEPTH} rows on an {@link AtomicLongArray}. Each cell packs attempts in its low and
+ * conflicts in its high 32 bits, so recording is {@link #DEPTH} atomic adds and never blocks.
+ * Estimates only over-count, by roughly {@code total / width}. A cell holds up to 2<sup>32</sup>
+ * attempts, far more than one instance books between restarts or resets.
+ * <p>
+ * Keys with conflicts are kept as candidates for {@link #top(int)}, up to {@code capacity} of them.
+ * When the set is full, a key is admitted only if it has more conflicts than the weakest candidate
+ * had at the last pruning; pruning runs on whichever writer wins a {@code tryLock}.
+ */
+public class HeavyHitters {
+
+    private static final int DEPTH = 4;
+    private static final long ATTEMPT = 1L;
+    private static final long CONFLICT = 1L << 32;
+    private static final long LOW_BITS = CONFLICT - 1;
+
+    private final int width;
+    private final int capacity;
+    private final AtomicLongArray counts;
+    private final Set<Long> candidates = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock pruning = new ReentrantLock();
+    private volatile long admissionThreshold;
+
+    public HeavyHitters(int width, int capacity) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Width must be a power of two");
+        }
+        this.width = width;
+        this.capacity = capacity;
+        this.counts = new AtomicLongArray(DEPTH * width);
+    }
+
+    public void record(long key, boolean conflict) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        if (!conflict) {
+            for (int row = 0; row < DEPTH; row++) {
+                counts.getAndAdd(slot(row, h1, h2), ATTEMPT);
+            }
+            return;
+        }
+
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counts.addAndGet(slot(row, h1, h2), ATTEMPT + CONFLICT) >>> 32);
+        }
+        if (candidates.contains(key)) {
+            return;
+        }
+        if (candidates.size() < capacity) {
+            candidates.add(key);
+        } else if (estimate > admissionThreshold) {
+            candidates.add(key);
+            prune();
+        }
+    }
+
+    public List<Entry> top(int n) {
+        return candidates.stream()
+                .map(key -> {
+                    long hash = mix(key);
+                    int h1 = (int) hash;
+                    int h2 = (int) (hash >>> 32) | 1;
+                    long keyAttempts = Long.MAX_VALUE;
+                    long keyConflicts = Long.MAX_VALUE;
+                    for (int row = 0; row < DEPTH; row++) {
+                        long cell = counts.get(slot(row, h1, h2));
+                        keyAttempts = Math.min(keyAttempts, cell & LOW_BITS);
+                        keyConflicts = Math.min(keyConflicts, cell >>> 32);
+                    }
+                    // Both are over-estimates; attempts can never really be below conflicts
+                    keyConflicts = Math.min(keyConflicts, keyAttempts);
+                    return new Entry(key, keyAttempts, keyConflicts,
+                            keyAttempts == 0 ? 0.0 : (double) keyConflicts / keyAttempts);
+                })
+                .sorted(Comparator.comparingLong(Entry::conflicts).reversed())
+                .limit(n)
+                .toList();
+    }
+
+    public void reset() {
+        pruning.lock();
+        try {
+            for (int i = 0; i < counts.length(); i++) {
+                counts.set(i, 0);
+            }
+            candidates.clear();
+            admissionThreshold = 0;
+        } finally {
+            pruning.unlock();
+        }
+    }
+
+    // Drops the weakest quarter of the candidates and raises the bar for new ones to what they had
+    private void prune() {
+        if (!pruning.tryLock()) {
+            return;
+        }
+        try {
+            if (candidates.size() <= capacity) {
+                return;
+            }
+            List<Entry> ranked = top(Integer.MAX_VALUE);
+            int keep = capacity - capacity / 4;
+            for (Entry entry : ranked.subList(keep, ranked.size())) {
+                candidates.remove(entry.key());
+            }
+            admissionThreshold = ranked.get(keep).conflicts();
+        } finally {
+            pruning.unlock();
+        }
+    }
+
+    // Row i uses h1 + i * h2, which is as good as DEPTH independent hashes for a count-min sketch
+    private int slot(int row, int h1, int h2) {
+        return row * width + ((h1 + row * h2) & (width - 1));
+    }
+
+    // The 64-bit finalizer of MurmurHash3: showtime ids are sequential, so they need spreading
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb93fe1a85ec5L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    public record Entry(long key, long attempts, long conflicts, double conflictRatio) {
+    }
+}
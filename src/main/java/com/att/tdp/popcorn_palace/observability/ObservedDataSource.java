@@ -0,0 +1,199 @@
+package com.att.tdp.popcorn_palace.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Reports the statements run on its connections to a {@link SqlObserver}: each one is counted, and
+ * sampled ones are timed, with rows read or written. Connection checkouts and statement executions
+ * inside a request or another observation are also observations, so they show up as spans under it;
+ * outside one, where no span could attach them, they cost nothing more than the observer.
+ * Extends {@link DelegatingDataSource} so Spring Boot still finds the pool behind it, for example
+ * for the Hikari metrics.
+ */
+public class ObservedDataSource extends DelegatingDataSource {
+
+    private final SqlObserver observer;
+    private final ObservationRegistry observationRegistry;
+
+    public ObservedDataSource(DataSource target, SqlObserver observer) {
+        this(target, observer, ObservationRegistry.NOOP);
+    }
+
+    public ObservedDataSource(DataSource target, SqlObserver observer, ObservationRegistry observationRegistry) {
+        super(target);
+        this.observer = observer;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return observe(acquire(() -> super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return observe(acquire(() -> super.getConnection(username, password)));
+    }
+
+    // Time spent waiting on the pool, which is where a saturated pool shows up in a trace
+    private Connection acquire(Observation.CheckedCallable<Connection, SQLException> checkout) throws SQLException {
+        if (!observing()) {
+            return checkout.call();
+        }
+        return Observation.createNotStarted("jdbc.connection.acquire", observationRegistry)
+                .contextualName("connection acquire")
+                .observeChecked(checkout);
+    }
+
+    private boolean observing() {
+        return !observationRegistry.isNoop() && observationRegistry.getCurrentObservation() != null;
+    }
+
+    private Connection observe(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> statement(PreparedStatement.class, (PreparedStatement) result, (String) args[0]);
+                case "prepareCall" -> statement(CallableStatement.class, (CallableStatement) result, (String) args[0]);
+                case "createStatement" -> statement(Statement.class, (Statement) result, null);
+                default -> result;
+            };
+        });
+    }
+
+    // A prepared statement carries its SQL from the start; a plain one gets it with each execute call
+    private <S extends Statement> S statement(Class<S> type, S statement, String preparedSql) {
+        return proxy(type, statement, new InvocationHandler() {
+            private Execution current;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                String name = method.getName();
+                if (name.equals("close")) {
+                    finish();
+                    return ObservedDataSource.invoke(statement, method, args);
+                }
+                if (!name.startsWith("execute")) {
+                    return ObservedDataSource.invoke(statement, method, args);
+                }
+
+                finish();
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                if (sql == null || !observer.onStatement(sql)) {
+                    return execute(sql, method, args);
+                }
+
+                long start = System.nanoTime();
+                Object result = execute(sql, method, args);
+                Execution execution = new Execution(sql, System.nanoTime() - start);
+                if (result instanceof ResultSet resultSet) {
+                    // Rows are known once the result set is read; it is reported when closed
+                    current = execution;
+                    return countRows(resultSet, execution);
+                }
+                if (result instanceof Integer updated) {
+                    execution.rows = Math.max(updated, 0);
+                } else if (result instanceof Long updated) {
+                    execution.rows = Math.max(updated, 0);
+                } else if (result instanceof int[] batch) {
+                    for (int updated : batch) {
+                        execution.rows += Math.max(updated, 0);
+                    }
+                } else if (result instanceof long[] batch) {
+                    for (long updated : batch) {
+                        execution.rows += Math.max(updated, 0);
+                    }
+                } else if (result instanceof Boolean hasResultSet && !hasResultSet) {
+                    execution.rows = Math.max(statement.getUpdateCount(), 0);
+                }
+                report(execution);
+                return result;
+            }
+
+            private Object execute(String sql, Method method, Object[] args) throws Throwable {
+                if (!observing()) {
+                    return ObservedDataSource.invoke(statement, method, args);
+                }
+                String operation = sql == null ? "batch" : SqlObserver.operationOf(sql);
+                Observation observation = Observation.createNotStarted("jdbc.query", observationRegistry)
+                        .contextualName("jdbc " + operation)
+                        .lowCardinalityKeyValue("db.operation", operation)
+                        .highCardinalityKeyValue("db.statement", sql == null ? "" : sql)
+                        .start();
+                try (Observation.Scope scope = observation.openScope()) {
+                    return ObservedDataSource.invoke(statement, method, args);
+                } catch (Throwable e) {
+                    observation.error(e);
+                    throw e;
+                } finally {
+                    observation.stop();
+                }
+            }
+
+            private void finish() {
+                if (current != null) {
+                    report(current);
+                    current = null;
+                }
+            }
+        });
+    }
+
+    private ResultSet countRows(ResultSet resultSet, Execution execution) {
+        return proxy(ResultSet.class, resultSet, (proxy, method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                execution.rows++;
+            } else if (method.getName().equals("close")) {
+                report(execution);
+            }
+            return result;
+        });
+    }
+
+    private void report(Execution execution) {
+        if (!execution.reported) {
+            execution.reported = true;
+            observer.record(execution.sql, execution.nanos, execution.rows);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(ObservedDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class Execution {
+        private final String sql;
+        private final long nanos;
+        private long rows;
+        private boolean reported;
+
+        Execution(String sql, long nanos) {
+            this.sql = sql;
+            this.nanos = nanos;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.att.tdp.popcorn_palace.observability;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code GET /actuator/contention}: the showtimes with the most seat conflicts, with their booking
+ * attempts and conflict ratio. {@code ?top=N} overrides the default list size and
+ * {@code DELETE /actuator/contention} starts counting again, for example before an on-sale.
+ * Counts are approximate, see {@link HeavyHitters}, and cumulative since startup or the last reset.
+ */
+@Component
+@Endpoint(id = "contention")
+public class ShowtimeContentionEndpoint {
+
+    private final HeavyHitters showtimes;
+    private final int defaultTop;
+
+    @Autowired
+    public ShowtimeContentionEndpoint(@Value("${popcorn-palace.contention.width:1024}") int width,
+                                      @Value("${popcorn-palace.contention.candidates:64}") int candidates,
+                                      @Value("${popcorn-palace.contention.top:10}") int defaultTop) {
+        this.showtimes = new HeavyHitters(width, candidates);
+        this.defaultTop = defaultTop;
+    }
+
+    public void recordBooking(long showtimeId, boolean conflict) {
+        showtimes.record(showtimeId, conflict);
+    }
+
+    @ReadOperation
+    public Map<String, Object> contention(@Nullable Integer top) {
+        List<Map<String, Object>> hottest = showtimes.top(top == null ? defaultTop : top).stream()
+                .map(entry -> {
+                    Map<String, Object> showtime = new LinkedHashMap<>();
+                    showtime.put("showtimeId", entry.key());
+                    showtime.put("attempts", entry.attempts());
+                    showtime.put("conflicts", entry.conflicts());
+                    showtime.put("conflictRatio", entry.conflictRatio());
+                    return showtime;
+                })
+                .toList();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("showtimes", hottest);
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        showtimes.reset();
+    }
+}
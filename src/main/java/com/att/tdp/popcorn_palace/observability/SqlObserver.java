@@ -0,0 +1,255 @@
+package com.att.tdp.popcorn_palace.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Replaces {@code show-sql}: instead of printing every statement on the calling thread, a sample of
+ * statements ({@code popcorn-palace.sql-observer.sample-rate}) is queued with its duration and row
+ * count, and {@link #drain()} fingerprints and aggregates them in the background. A full queue
+ * drops samples rather than slowing down the statement.
+ * <p>
+ * Every statement of an HTTP request is also counted by its SQL text, which Hibernate already
+ * parameterizes. A {@code select} that runs at least {@code n-plus-one-threshold} times in one
+ * request is reported as a likely N+1, such as lazy {@code Showtime.movie} loads in a loop.
+ */
+@Component
+@ConditionalOnProperty(name = "popcorn-palace.sql-observer.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlObserver {
+
+    // Distinct fingerprints kept; statements built with inlined values could otherwise grow it forever
+    private static final int MAX_FINGERPRINTS = 1_000;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final ThreadLocal<Map<String, Integer>> REQUEST_STATEMENTS = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final int nPlusOneThreshold;
+    private final BlockingQueue<Sample> samples;
+    private final ConcurrentMap<String, QueryStats> queries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, NPlusOne> nPlusOnes = new ConcurrentHashMap<>();
+    private final Counter droppedSamples;
+
+    @Autowired
+    public SqlObserver(MeterRegistry meterRegistry,
+                       @Value("${popcorn-palace.sql-observer.sample-rate:0.1}") double sampleRate,
+                       @Value("${popcorn-palace.sql-observer.n-plus-one-threshold:5}") int nPlusOneThreshold,
+                       @Value("${popcorn-palace.sql-observer.queue-size:10000}") int queueSize) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.samples = new ArrayBlockingQueue<>(queueSize);
+        this.droppedSamples = Counter.builder("sql.samples.dropped")
+                .description("Sampled statements dropped because the queue was full")
+                .register(meterRegistry);
+    }
+
+    public double sampleRate() {
+        return sampleRate;
+    }
+
+    // Called before every statement runs; a sampled one is then reported through record()
+    public boolean onStatement(String sql) {
+        Map<String, Integer> requestStatements = REQUEST_STATEMENTS.get();
+        if (requestStatements != null) {
+            requestStatements.merge(sql, 1, Integer::sum);
+        }
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    public void record(String sql, long nanos, long rows) {
+        if (!samples.offer(new Sample(sql, nanos, rows))) {
+            droppedSamples.increment();
+        }
+    }
+
+    public void beginRequest() {
+        REQUEST_STATEMENTS.set(new HashMap<>());
+    }
+
+    public void endRequest(String endpoint) {
+        Map<String, Integer> requestStatements = REQUEST_STATEMENTS.get();
+        REQUEST_STATEMENTS.remove();
+        if (requestStatements == null) {
+            return;
+        }
+
+        int total = 0;
+        for (Map.Entry<String, Integer> statement : requestStatements.entrySet()) {
+            total += statement.getValue();
+            if (statement.getValue() >= nPlusOneThreshold && operationOf(statement.getKey()).equals("select")) {
+                Counter.builder("sql.n_plus_one")
+                        .description("Requests that ran the same select repeatedly")
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry)
+                        .increment();
+                String fingerprint = fingerprint(statement.getKey());
+                nPlusOnes.computeIfAbsent(endpoint + " " + fingerprint, key -> new NPlusOne(endpoint, fingerprint))
+                        .occurred(statement.getValue());
+            }
+        }
+        DistributionSummary.builder("sql.statements.per_request")
+                .description("Statements run by one HTTP request")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(total);
+    }
+
+    @Scheduled(fixedDelayString = "${popcorn-palace.sql-observer.drain-interval:1s}")
+    public void drain() {
+        List<Sample> batch = new ArrayList<>();
+        samples.drainTo(batch);
+        for (Sample sample : batch) {
+            String fingerprint = fingerprint(sample.sql());
+            QueryStats stats = queries.get(fingerprint);
+            if (stats == null) {
+                if (queries.size() >= MAX_FINGERPRINTS) {
+                    continue;
+                }
+                stats = queries.computeIfAbsent(fingerprint, key -> new QueryStats());
+            }
+            stats.add(sample.nanos(), sample.rows());
+            Timer.builder("sql.statements")
+                    .description("Duration of sampled SQL statements")
+                    .tag("operation", operationOf(fingerprint))
+                    .register(meterRegistry)
+                    .record(sample.nanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public List<Map<String, Object>> slowestQueries(int top) {
+        drain();
+        return queries.entrySet().stream()
+                .map(entry -> entry.getValue().toMap(entry.getKey(), sampleRate))
+                .sorted(Comparator.comparingDouble(query -> -(double) query.get("totalMillis")))
+                .limit(top)
+                .toList();
+    }
+
+    public List<Map<String, Object>> nPlusOneSuspects(int top) {
+        return nPlusOnes.values().stream()
+                .sorted(Comparator.comparingLong(NPlusOne::requests).reversed())
+                .limit(top)
+                .map(NPlusOne::toMap)
+                .toList();
+    }
+
+    public void reset() {
+        samples.clear();
+        queries.clear();
+        nPlusOnes.clear();
+    }
+
+    // Literal values and the length of IN lists do not make a different query
+    static String fingerprint(String sql) {
+        String fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = IN_LIST.matcher(fingerprint).replaceAll("(?)");
+        return WHITESPACE.matcher(fingerprint).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    static String operationOf(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        String keyword = trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "with" -> "select";
+            case "insert", "update", "delete", "merge" -> keyword;
+            default -> "other";
+        };
+    }
+
+    private record Sample(String sql, long nanos, long rows) {
+    }
+
+    private static final class QueryStats {
+        private long samples;
+        private long totalNanos;
+        private long maxNanos;
+        private long rows;
+
+        // Only the drain thread writes; readers take a consistent snapshot under the same lock
+        synchronized void add(long nanos, long sampleRows) {
+            samples++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            rows += sampleRows;
+        }
+
+        synchronized Map<String, Object> toMap(String fingerprint, double sampleRate) {
+            Map<String, Object> query = new LinkedHashMap<>();
+            query.put("fingerprint", fingerprint);
+            query.put("samples", samples);
+            query.put("estimatedExecutions", sampleRate > 0 ? Math.round(samples / Math.min(sampleRate, 1.0)) : 0);
+            query.put("totalMillis", totalNanos / 1_000_000.0);
+            query.put("meanMillis", totalNanos / 1_000_000.0 / samples);
+            query.put("maxMillis", maxNanos / 1_000_000.0);
+            query.put("meanRows", (double) rows / samples);
+            return query;
+        }
+    }
+
+    private static final class NPlusOne {
+        private final String endpoint;
+        private final String fingerprint;
+        private long requests;
+        private int maxExecutions;
+        private Instant lastSeen;
+
+        NPlusOne(String endpoint, String fingerprint) {
+            this.endpoint = endpoint;
+            this.fingerprint = fingerprint;
+        }
+
+        synchronized void occurred(int executions) {
+            requests++;
+            maxExecutions = Math.max(maxExecutions, executions);
+            lastSeen = Instant.now();
+        }
+
+        synchronized long requests() {
+            return requests;
+        }
+
+        synchronized Map<String, Object> toMap() {
+            Map<String, Object> suspect = new LinkedHashMap<>();
+            suspect.put("endpoint", endpoint);
+            suspect.put("fingerprint", fingerprint);
+            suspect.put("requests", requests);
+            suspect.put("maxExecutionsPerRequest", maxExecutions);
+            suspect.put("lastSeen", lastSeen.toString());
+            return suspect;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.att.tdp.popcorn_palace.observability;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code GET /actuator/sqlstats}: the query fingerprints that took the most sampled time, and the
+ * endpoints that ran the same select repeatedly in one request. {@code ?top=N} limits both lists
+ * (default 20) and {@code DELETE /actuator/sqlstats} clears them.
+ */
+@Component
+@Endpoint(id = "sqlstats")
+@ConditionalOnProperty(name = "popcorn-palace.sql-observer.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatsEndpoint {
+
+    private final SqlObserver sqlObserver;
+
+    @Autowired
+    public SqlStatsEndpoint(SqlObserver sqlObserver) {
+        this.sqlObserver = sqlObserver;
+    }
+
+    @ReadOperation
+    public Map<String, Object> sqlStats(@Nullable Integer top) {
+        int limit = top == null ? 20 : top;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sampleRate", sqlObserver.sampleRate());
+        result.put("slowQueries", sqlObserver.slowestQueries(limit));
+        result.put("nPlusOne", sqlObserver.nPlusOneSuspects(limit));
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlObserver.reset();
+    }
+}
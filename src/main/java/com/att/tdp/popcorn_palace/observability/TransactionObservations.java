@@ -0,0 +1,70 @@
+package com.att.tdp.popcorn_palace.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A {@code transaction.commit} or {@code transaction.rollback} span around each transaction's
+ * completion. Hibernate flushes on commit, so the writes of a transaction are children of its
+ * commit span. Spring Boot registers listener beans on the transaction manager.
+ */
+@Component
+public class TransactionObservations implements TransactionExecutionListener {
+
+    // Completions nest when a REQUIRES_NEW transaction finishes while an outer one is committing
+    private static final ThreadLocal<Deque<Observation.Scope>> COMPLETING = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final ObservationRegistry observationRegistry;
+
+    @Autowired
+    public TransactionObservations(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        start("transaction.commit", transaction);
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        stop(commitFailure);
+    }
+
+    @Override
+    public void beforeRollback(TransactionExecution transaction) {
+        start("transaction.rollback", transaction);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        stop(rollbackFailure);
+    }
+
+    private void start(String name, TransactionExecution transaction) {
+        Observation observation = Observation.createNotStarted(name, observationRegistry)
+                .highCardinalityKeyValue("transaction.name", String.valueOf(transaction.getTransactionName()))
+                .start();
+        COMPLETING.get().push(observation.openScope());
+    }
+
+    private void stop(Throwable failure) {
+        Observation.Scope scope = COMPLETING.get().poll();
+        if (scope == null) {
+            return;
+        }
+        Observation observation = scope.getCurrentObservation();
+        scope.close();
+        if (failure != null) {
+            observation.error(failure);
+        }
+        observation.stop();
+    }
+}
@@ -0,0 +1,28 @@
+package com.att.tdp.popcorn_palace.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("popcornpalace.BookingAttempt")
+@Label("Booking Attempt")
+@Description("One attempt of a booking in its own transaction; @Retryable runs another after an optimistic lock failure")
+@Category({"Popcorn Palace", "Booking"})
+@StackTrace(false)
+public class BookingAttemptEvent extends Event {
+
+    @Label("Showtime ID")
+    public long showtimeId;
+
+    @Label("Seat")
+    public int seatNumber;
+
+    @Label("Attempt")
+    public int attempt;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,49 @@
+package com.att.tdp.popcorn_palace.observability.jfr;
+
+import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.observability.BookingMetrics;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.support.RetrySynchronizationManager;
+import org.springframework.stereotype.Component;
+
+// Emits a BookingAttemptEvent per attempt: inside the retry advice (see @EnableRetry's order) and
+// BookingAttemptObservation, and outside the transaction, so each attempt's commit is part of it
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class BookingAttemptRecorder {
+
+    @Around("execution(* com.att.tdp.popcorn_palace.service.BookingService.createBooking(..))")
+    public Object recordAttempt(ProceedingJoinPoint joinPoint) throws Throwable {
+        BookingAttemptEvent event = new BookingAttemptEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        String outcome = "created";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = BookingMetrics.outcomeOf(e);
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                if (joinPoint.getArgs()[0] instanceof BookingDTO bookingDTO) {
+                    event.showtimeId = bookingDTO.getShowtimeId() == null ? 0 : bookingDTO.getShowtimeId();
+                    event.seatNumber = bookingDTO.getSeatNumber() == null ? 0 : bookingDTO.getSeatNumber();
+                }
+                RetryContext retry = RetrySynchronizationManager.getContext();
+                event.attempt = retry == null ? 1 : retry.getRetryCount() + 1;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.att.tdp.popcorn_palace.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("popcornpalace.Booking")
+@Label("Booking")
+@Description("One BookingService.createBooking call, including its retries and commit")
+@Category({"Popcorn Palace", "Booking"})
+@StackTrace(false)
+public class BookingEvent extends Event {
+
+    @Label("Showtime ID")
+    public long showtimeId;
+
+    @Label("Seat")
+    public int seatNumber;
+
+    @Label("Outcome")
+    public String outcome;
+}
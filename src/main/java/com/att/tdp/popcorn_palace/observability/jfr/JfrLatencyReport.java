@@ -0,0 +1,74 @@
+package com.att.tdp.popcorn_palace.observability.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Summarizes the Popcorn Palace events of a {@code .jfr} recording into a latency breakdown: count,
+ * p50/p90/p99, max and total time per event, outcome and booking attempt.
+ * <pre>
+ * java -cp target/classes com.att.tdp.popcorn_palace.observability.jfr.JfrLatencyReport recording.jfr
+ * </pre>
+ */
+public final class JfrLatencyReport {
+
+    private static final String EVENT_PREFIX = "popcornpalace.";
+
+    private JfrLatencyReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: JfrLatencyReport <recording.jfr>");
+            System.exit(2);
+        }
+        System.out.print(summarize(Path.of(args[0])));
+    }
+
+    public static String summarize(Path recording) throws IOException {
+        Map<String, List<Long>> durations = new TreeMap<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            String name = event.getEventType().getName();
+            if (!name.startsWith(EVENT_PREFIX)) {
+                continue;
+            }
+            String group = name.substring(EVENT_PREFIX.length());
+            if (event.hasField("attempt")) {
+                group += " #" + event.getInt("attempt");
+            }
+            if (event.hasField("outcome")) {
+                group += " " + event.getString("outcome");
+            }
+            durations.computeIfAbsent(group, key -> new ArrayList<>()).add(event.getDuration().toNanos());
+        }
+
+        StringBuilder report = new StringBuilder(String.format("%-36s %8s %10s %10s %10s %10s %12s%n",
+                "Event", "Count", "p50 ms", "p90 ms", "p99 ms", "Max ms", "Total ms"));
+        durations.forEach((group, nanos) -> {
+            long[] sorted = nanos.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            report.append(String.format("%-36s %8d %10.3f %10.3f %10.3f %10.3f %12.3f%n",
+                    group, sorted.length,
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.90)),
+                    millis(percentile(sorted, 0.99)), millis(sorted[sorted.length - 1]),
+                    millis(Arrays.stream(sorted).sum())));
+        });
+        return report.toString();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,30 @@
+package com.att.tdp.popcorn_palace.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("popcornpalace.OverlapCheck")
+@Label("Showtime Overlap Check")
+@Description("Validation of a new or updated showtime against the others in its theater")
+@Category({"Popcorn Palace", "Showtimes"})
+@StackTrace(false)
+public class OverlapCheckEvent extends Event {
+
+    @Label("Showtime ID")
+    @Description("0 for a new showtime")
+    public long showtimeId;
+
+    @Label("Theater")
+    public String theater;
+
+    @Label("Overlapping Showtimes")
+    public int overlapping;
+
+    @Label("Outcome")
+    @Description("free, overlap, or invalid when the times were rejected before querying")
+    public String outcome = "invalid";
+}
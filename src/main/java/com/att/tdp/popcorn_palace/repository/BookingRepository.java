@@ -3,11 +3,40 @@ package com.att.tdp.popcorn_palace.repository;
 import com.att.tdp.popcorn_palace.model.Booking;
 import com.att.tdp.popcorn_palace.model.Showtime;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-    @Query("SELECT COUNT(b) > 0 FROM Booking b WHERE b.showtime = :showtime AND b.seatNumber = :seatNumber")
+    @IndexedBy(table = "bookings", columns = {"showtime_id", "seat_number"})
+    @Query("SELECT COUNT(b) > 0 FROM Booking b WHERE b.showtime = :showtime AND b.seatNumber = :seatNumber " +
+           "AND b.showtimeStart = :#{#showtime.startTime}")
     boolean existsByShowtimeAndSeatNumber(Showtime showtime, Integer seatNumber);
-} 
\ No newline at end of file
+
+    @IndexedBy(table = "bookings", columns = {"showtime_id"})
+    @Query("SELECT b FROM Booking b WHERE b.showtime.id IN :showtimeIds ORDER BY b.seatNumber")
+    List<Booking> findByShowtimeIds(@Param("showtimeIds") Collection<Long> showtimeIds);
+
+    @IndexedBy(table = "bookings", columns = {"showtime_id"})
+    @IndexedBy(table = "showtimes", columns = {"movie_id"})
+    @Modifying
+    @Query("DELETE FROM Booking b WHERE b.showtime.id IN " +
+           "(SELECT s.id FROM Showtime s WHERE s.movie.id = :movieId)")
+    int bulkDeleteByMovieId(@Param("movieId") Long movieId);
+
+    @IndexedBy(table = "bookings", columns = {"showtime_id"})
+    @Modifying
+    @Query("DELETE FROM Booking b WHERE b.showtime.id IN :showtimeIds")
+    int bulkDeleteByShowtimeIds(@Param("showtimeIds") Collection<Long> showtimeIds);
+
+    @IndexedBy(table = "bookings", columns = {"showtime_id"})
+    @Modifying
+    @Query("UPDATE Booking b SET b.showtimeStart = :showtimeStart WHERE b.showtime.id = :showtimeId")
+    int updateShowtimeStart(@Param("showtimeId") Long showtimeId, @Param("showtimeStart") ZonedDateTime showtimeStart);
+}
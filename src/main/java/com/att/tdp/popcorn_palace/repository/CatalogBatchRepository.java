@@ -0,0 +1,92 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Cache;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Loads many movies or showtimes by id at once. Entities in the second-level cache are served from
+ * it first; the rest are fetched in a single {@code IN}/{@code ANY} query, showtimes together with
+ * their movie. Results follow the order of the requested ids, without duplicates and without ids
+ * that do not exist.
+ */
+@Repository
+public class CatalogBatchRepository {
+
+    private final EntityManager entityManager;
+    private final int maxIds;
+
+    @Autowired
+    public CatalogBatchRepository(EntityManager entityManager,
+                                  @Value("${popcorn-palace.batch-lookup.max-ids:100}") int maxIds) {
+        this.entityManager = entityManager;
+        this.maxIds = maxIds;
+    }
+
+    @IndexedBy(table = "showtimes", columns = {"id"})
+    public List<Showtime> findShowtimesInOrder(List<Long> ids) {
+        checkSize(ids, maxIds);
+        Session session = entityManager.unwrap(Session.class);
+        RootGraph<Showtime> withMovie = session.createEntityGraph(Showtime.class);
+        withMovie.addAttributeNodes("movie");
+
+        List<Showtime> showtimes = cacheFirst(session, Showtime.class, ids, Showtime::getId,
+                misses -> session.byMultipleIds(Showtime.class).with(withMovie, GraphSemantic.FETCH).multiLoad(misses));
+        // Cache hits come back with their movie as a proxy; it is normally in its own region as well
+        showtimes.forEach(showtime -> Hibernate.initialize(showtime.getMovie()));
+        return showtimes;
+    }
+
+    @IndexedBy(table = "movies", columns = {"id"})
+    public List<Movie> findMoviesInOrder(List<Long> ids) {
+        checkSize(ids, maxIds);
+        Session session = entityManager.unwrap(Session.class);
+        return cacheFirst(session, Movie.class, ids, Movie::getId,
+                misses -> session.byMultipleIds(Movie.class).multiLoad(misses));
+    }
+
+    private static <T> List<T> cacheFirst(Session session, Class<T> type, List<Long> ids,
+                                          Function<T, Long> idOf, Function<List<Long>, List<T>> loadMisses) {
+        Cache cache = session.getSessionFactory().getCache();
+        List<Long> requested = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, T> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : requested) {
+            T cached = cache.contains(type, id) ? session.find(type, id) : null;
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            // Multi-load returns null in the position of an id that does not exist
+            loadMisses.apply(misses).stream()
+                    .filter(Objects::nonNull)
+                    .forEach(entity -> found.put(idOf.apply(entity), entity));
+        }
+        return requested.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    private static void checkSize(List<Long> ids, int maxIds) {
+        if (ids.size() > maxIds) {
+            throw new IllegalArgumentException("At most " + maxIds + " ids can be requested at once");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Declares an index a repository query relies on: the table and the leading columns the query
+// filters on. RepositoryIndexCoverageTest fails the build when no index in the migrated schema
+// starts with these columns, or when a query method in a checked repository is not annotated.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(IndexedBy.List.class)
+public @interface IndexedBy {
+    String table();
+
+    String[] columns();
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface List {
+        IndexedBy[] value();
+    }
+}
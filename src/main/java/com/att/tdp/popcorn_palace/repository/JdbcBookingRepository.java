@@ -0,0 +1,56 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.OutboxEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZoneOffset;
+import java.util.OptionalLong;
+
+/**
+ * Booking writes without a persistence context: no managed {@code Booking}/{@code Showtime}
+ * instances, no dirty checking, one prepared statement per row. Enabled with
+ * {@code popcorn-palace.bookings.repository=jdbc}; reads still go through {@link BookingRepository}.
+ */
+@Repository
+@ConditionalOnProperty(name = "popcorn-palace.bookings.repository", havingValue = "jdbc")
+public class JdbcBookingRepository {
+
+    // Copies the partition key from the showtime in the same statement; no row inserted means no showtime
+    private static final String INSERT_BOOKING =
+            "INSERT INTO bookings (id, showtime_id, showtime_start, seat_number, user_id, version) " +
+            "SELECT ?, s.id, s.start_time, ?, ?, 0 FROM showtimes s WHERE s.id = ?";
+
+    private static final String INSERT_OUTBOX_EVENT =
+            "INSERT INTO booking_outbox (id, event_type, aggregate_id, payload, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator sequenceIdAllocator;
+
+    @Autowired
+    public JdbcBookingRepository(JdbcTemplate jdbcTemplate, SequenceIdAllocator sequenceIdAllocator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sequenceIdAllocator = sequenceIdAllocator;
+    }
+
+    /**
+     * Returns the new booking id, or empty when the showtime does not exist. A taken seat surfaces
+     * as {@link org.springframework.dao.DuplicateKeyException} from {@code uk_bookings_showtime_seat}.
+     */
+    public OptionalLong insert(Long showtimeId, Integer seatNumber, String userId) {
+        long id = sequenceIdAllocator.nextId("bookings_seq");
+        int inserted = jdbcTemplate.update(INSERT_BOOKING, id, seatNumber, userId, showtimeId);
+        return inserted == 0 ? OptionalLong.empty() : OptionalLong.of(id);
+    }
+
+    public void insertOutboxEvent(OutboxEvent event) {
+        jdbcTemplate.update(INSERT_OUTBOX_EVENT,
+                sequenceIdAllocator.nextId("booking_outbox_seq"),
+                event.getEventType(),
+                event.getAggregateId(),
+                event.getPayload(),
+                event.getCreatedAt().atOffset(ZoneOffset.UTC));
+    }
+}
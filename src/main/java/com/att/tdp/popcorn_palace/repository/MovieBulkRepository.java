@@ -0,0 +1,59 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.dto.MovieDTO;
+import com.att.tdp.popcorn_palace.model.Movie;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class MovieBulkRepository {
+
+    // Standard MERGE so the same statement runs on PostgreSQL 15+ and on H2 in tests.
+    private static final String UPSERT_BY_TITLE =
+            "MERGE INTO movies m " +
+            "USING (SELECT CAST(? AS BIGINT) AS id, CAST(? AS VARCHAR(255)) AS title, " +
+            "CAST(? AS VARCHAR(255)) AS genre, CAST(? AS INTEGER) AS duration, " +
+            "CAST(? AS DOUBLE PRECISION) AS rating, CAST(? AS INTEGER) AS release_year) src " +
+            "ON (m.title = src.title) " +
+            "WHEN MATCHED THEN UPDATE SET genre = src.genre, duration = src.duration, rating = src.rating, " +
+            "release_year = src.release_year, version = m.version + 1 " +
+            "WHEN NOT MATCHED THEN INSERT (id, title, genre, duration, rating, release_year, version) " +
+            "VALUES (src.id, src.title, src.genre, src.duration, src.rating, src.release_year, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator sequenceIdAllocator;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public MovieBulkRepository(JdbcTemplate jdbcTemplate,
+                               SequenceIdAllocator sequenceIdAllocator,
+                               EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sequenceIdAllocator = sequenceIdAllocator;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public void upsertByTitle(List<MovieDTO> movies) {
+        jdbcTemplate.batchUpdate(UPSERT_BY_TITLE, movies, movies.size(), (ps, movie) -> {
+            // Rows that match an existing title leave their pre-allocated id unused
+            ps.setLong(1, sequenceIdAllocator.nextId("movies_seq"));
+            ps.setString(2, movie.getTitle());
+            ps.setString(3, movie.getGenre());
+            ps.setInt(4, movie.getDuration());
+            ps.setDouble(5, movie.getRating());
+            ps.setInt(6, movie.getReleaseYear());
+        });
+    }
+
+    // The MERGE bypasses Hibernate, so cached movies and catalog queries have to be dropped
+    // explicitly. Call after the upsert has committed, or a concurrent read could re-cache old rows.
+    public void evictCachedMovies() {
+        entityManagerFactory.getCache().evict(Movie.class);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+    }
+}
@@ -1,14 +1,35 @@
 package com.att.tdp.popcorn_palace.repository;
 
 import com.att.tdp.popcorn_palace.model.Movie;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
+    // Catalog reads go through the query cache; writes to movies invalidate it
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Movie> findAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Movie> findByTitle(String title);
+
     boolean existsByTitle(String title);
     void deleteByTitle(String title);
-} 
\ No newline at end of file
+
+    @Query("SELECT m.id FROM Movie m WHERE m.title = :title")
+    Optional<Long> findIdByTitle(@Param("title") String title);
+
+    @Modifying
+    @Query("DELETE FROM Movie m WHERE m.id = :id")
+    int bulkDeleteById(@Param("id") Long id);
+}
@@ -0,0 +1,64 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Non-blocking reads of the catalog for the reactive stack. Rows are mapped onto the JPA model
+ * classes as plain objects, so responses serialize exactly like the servlet controllers' ones.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCatalogRepository {
+
+    private static final String MOVIE_COLUMNS = "m.id, m.title, m.genre, m.duration, m.rating, m.release_year, m.version";
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public ReactiveCatalogRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<Movie> findAllMovies() {
+        return databaseClient.sql("SELECT " + MOVIE_COLUMNS + " FROM movies m ORDER BY m.id")
+                .map(ReactiveCatalogRepository::toMovie)
+                .all();
+    }
+
+    public Mono<Showtime> findShowtimeById(Long id) {
+        return databaseClient.sql("SELECT s.id AS showtime_id, s.theater, s.start_time, s.end_time, s.price, " +
+                        "s.version AS showtime_version, " + MOVIE_COLUMNS + " " +
+                        "FROM showtimes s JOIN movies m ON m.id = s.movie_id WHERE s.id = :id")
+                .bind("id", id)
+                .map(row -> new Showtime(
+                        row.get("showtime_id", Long.class),
+                        toMovie(row),
+                        row.get("theater", String.class),
+                        row.get("start_time", OffsetDateTime.class).toZonedDateTime(),
+                        row.get("end_time", OffsetDateTime.class).toZonedDateTime(),
+                        row.get("price", Double.class),
+                        row.get("showtime_version", Long.class)))
+                .one();
+    }
+
+    private static Movie toMovie(Readable row) {
+        return new Movie(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("genre", String.class),
+                row.get("duration", Integer.class),
+                row.get("rating", Double.class),
+                row.get("release_year", Integer.class),
+                row.get("version", Long.class));
+    }
+}
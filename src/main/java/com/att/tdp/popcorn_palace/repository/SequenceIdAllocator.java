@@ -0,0 +1,59 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.Sequences;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Hands out ids for JDBC inserts the same way Hibernate's pooled optimizer does, so rows written
+// through JdbcTemplate and rows persisted through JPA can share a sequence without collisions. This
+// relies on the sequences starting past their first block, see Sequences.
+@Component
+public class SequenceIdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+    private final ConcurrentMap<String, Block> blocks = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SequenceIdAllocator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+    }
+
+    public long nextId(String sequenceName) {
+        Block block = blocks.computeIfAbsent(sequenceName, name -> new Block());
+        synchronized (block) {
+            if (block.next > block.last) {
+                long hi = nextSequenceValue(sequenceName);
+                block.next = hi - Sequences.ALLOCATION_SIZE + 1;
+                block.last = hi;
+            }
+            return block.next++;
+        }
+    }
+
+    private long nextSequenceValue(String sequenceName) {
+        String sql = dialect.getSequenceSupport().getSequenceNextValString(sequenceName);
+        Long value = jdbcTemplate.queryForObject(sql, Long.class);
+        if (value == null) {
+            throw new IllegalStateException("Sequence " + sequenceName + " returned no value");
+        }
+        if (value <= Sequences.ALLOCATION_SIZE) {
+            throw new IllegalStateException("Sequence " + sequenceName + " returned " + value
+                    + ", it must start at " + (Sequences.ALLOCATION_SIZE + 1));
+        }
+        return value;
+    }
+
+    private static final class Block {
+        private long next = 1;
+        private long last = 0;
+    }
+}
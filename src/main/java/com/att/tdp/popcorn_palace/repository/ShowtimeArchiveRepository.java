@@ -0,0 +1,114 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.dto.ArchivedShowtime;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cold storage for archived showtimes: one gzipped NDJSON file per archived chunk, named after the
+ * chunk's id range so lookups by id only open the files that can contain it.
+ */
+@Repository
+public class ShowtimeArchiveRepository {
+
+    private static final Pattern CHUNK_FILE = Pattern.compile("showtimes-(\\d+)-(\\d+)\\.ndjson\\.gz");
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    @Autowired
+    public ShowtimeArchiveRepository(ObjectMapper objectMapper,
+                                     @Value("${popcorn-palace.archive.directory:archive}") Path directory) {
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+    }
+
+    public Path write(List<ArchivedShowtime> showtimes) throws IOException {
+        long firstId = showtimes.stream().mapToLong(ArchivedShowtime::getId).min().orElseThrow();
+        long lastId = showtimes.stream().mapToLong(ArchivedShowtime::getId).max().orElseThrow();
+        Files.createDirectories(directory);
+        Path target = directory.resolve("showtimes-" + firstId + "-" + lastId + ".ndjson.gz");
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+
+        try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+            GZIPOutputStream gzip = new GZIPOutputStream(file);
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8));
+            for (ArchivedShowtime showtime : showtimes) {
+                writer.write(objectMapper.writeValueAsString(showtime));
+                writer.newLine();
+            }
+            writer.flush();
+            gzip.finish();
+            // The rows are deleted right after this returns, so the file must be durable first
+            file.getChannel().force(true);
+        }
+        // A rerun of a chunk that crashed before its delete committed replaces the earlier file
+        return Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public Optional<ArchivedShowtime> findById(Long id) {
+        List<ArchivedShowtime> found = scan(range -> range[0] <= id && id <= range[1], s -> s.getId().equals(id));
+        return found.stream().findFirst();
+    }
+
+    public List<ArchivedShowtime> findByMovieId(Long movieId) {
+        return scan(range -> true, s -> movieId.equals(s.getMovieId()));
+    }
+
+    private List<ArchivedShowtime> scan(Predicate<long[]> fileFilter, Predicate<ArchivedShowtime> filter) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<ArchivedShowtime> result = new ArrayList<>();
+        // A chunk can be archived twice when a run fails between writing and deleting
+        Set<Long> seen = new HashSet<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.sorted(Comparator.comparing(Path::getFileName)).toList()) {
+                Matcher matcher = CHUNK_FILE.matcher(file.getFileName().toString());
+                if (!matcher.matches()
+                        || !fileFilter.test(new long[]{Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2))})) {
+                    continue;
+                }
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                        new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        ArchivedShowtime showtime = objectMapper.readValue(line, ArchivedShowtime.class);
+                        if (filter.test(showtime) && seen.add(showtime.getId())) {
+                            result.add(showtime);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result;
+    }
+}
@@ -1,21 +1,47 @@
 package com.att.tdp.popcorn_palace.repository;
 
 import com.att.tdp.popcorn_palace.model.Showtime;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ShowtimeRepository extends JpaRepository<Showtime, Long> {
+    @IndexedBy(table = "showtimes", columns = {"theater", "start_time"})
     @Query("SELECT s FROM Showtime s WHERE s.theater = :theater " +
-           "AND s.startTime < :endTime AND s.endTime > :startTime")
+           "AND s.startTime < :endTime AND s.endTime > :startTime AND s.startTime > :earliestStart")
     List<Showtime> findOverlappingShowtimes(
             @Param("theater") String theater,
             @Param("startTime") ZonedDateTime startTime,
-            @Param("endTime") ZonedDateTime endTime
+            @Param("endTime") ZonedDateTime endTime,
+            @Param("earliestStart") ZonedDateTime earliestStart
     );
-} 
\ No newline at end of file
+
+    @IndexedBy(table = "showtimes", columns = {"movie_id"})
+    @Query("SELECT s.id FROM Showtime s WHERE s.movie.id = :movieId ORDER BY s.id")
+    List<Long> findIdsByMovieId(@Param("movieId") Long movieId, Limit limit);
+
+    // FOR UPDATE, not the FOR NO KEY UPDATE of a JPA write lock: only it conflicts with the key share
+    // lock a booking's foreign key takes, so no booking is added between archiving and deleting
+    @IndexedBy(table = "showtimes", columns = {"end_time"})
+    @Query(value = "SELECT * FROM showtimes WHERE end_time < :cutoff ORDER BY end_time, id LIMIT :limit FOR UPDATE",
+           nativeQuery = true)
+    List<Showtime> lockEndedBefore(@Param("cutoff") ZonedDateTime cutoff, @Param("limit") int limit);
+
+    @IndexedBy(table = "showtimes", columns = {"movie_id"})
+    @Modifying
+    @Query("DELETE FROM Showtime s WHERE s.movie.id = :movieId")
+    int bulkDeleteByMovieId(@Param("movieId") Long movieId);
+
+    @IndexedBy(table = "showtimes", columns = {"id"})
+    @Modifying
+    @Query("DELETE FROM Showtime s WHERE s.id IN :ids")
+    int bulkDeleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -1,14 +1,19 @@
 package com.att.tdp.popcorn_palace.service;
 
 import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.exception.DataIntegrityViolation;
 import com.att.tdp.popcorn_palace.exception.booking.SeatAlreadyBookedException;
 import com.att.tdp.popcorn_palace.exception.showtime.ShowtimeNotFoundException;
 import com.att.tdp.popcorn_palace.model.Booking;
 import com.att.tdp.popcorn_palace.model.Showtime;
 import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.JdbcBookingRepository;
 import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.outbox.BookingOutbox;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.lang.Nullable;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
@@ -17,25 +22,44 @@ import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.OptimisticLockException;
 
+import java.util.OptionalLong;
+
 @Service
 public class BookingService {
 
     private final BookingRepository bookingRepository;
     private final ShowtimeRepository showtimeRepository;
+    private final BookingOutbox bookingOutbox;
+    // Present only with popcorn-palace.bookings.repository=jdbc
+    private final JdbcBookingRepository jdbcBookingRepository;
 
     @Autowired
-    public BookingService(BookingRepository bookingRepository, ShowtimeRepository showtimeRepository) {
+    public BookingService(BookingRepository bookingRepository,
+                          ShowtimeRepository showtimeRepository,
+                          BookingOutbox bookingOutbox,
+                          @Nullable JdbcBookingRepository jdbcBookingRepository) {
         this.bookingRepository = bookingRepository;
         this.showtimeRepository = showtimeRepository;
+        this.bookingOutbox = bookingOutbox;
+        this.jdbcBookingRepository = jdbcBookingRepository;
     }
 
+    // Under SERIALIZABLE, PostgreSQL aborts a booking that checked the seat before a concurrent one
+    // committed with 40001 (serialization failure) or 40P01 (deadlock) rather than 23505, on its
+    // INSERT or at commit. Spring translates both SQLSTATEs into ConcurrencyFailureExceptions. The
+    // retry repeats the seat check, which now sees the winner and answers with a 409.
     @Retryable(
-        value = {OptimisticLockException.class},
+        value = {OptimisticLockException.class, ConcurrencyFailureException.class},
         maxAttempts = 3,
-        backoff = @Backoff(delay = 100, multiplier = 2)
+        backoff = @Backoff(delay = 100, multiplier = 2),
+        listeners = "bookingMetrics"
     )
     @Transactional(isolation = Isolation.SERIALIZABLE)
     public Booking createBooking(BookingDTO bookingDTO) {
+        if (jdbcBookingRepository != null) {
+            return createBookingWithJdbc(bookingDTO);
+        }
+
         // First check if showtime exists
         Showtime showtime = showtimeRepository.findById(bookingDTO.getShowtimeId())
                 .orElseThrow(() -> new ShowtimeNotFoundException(bookingDTO.getShowtimeId()));
@@ -51,14 +75,49 @@ public class BookingService {
         booking.setSeatNumber(bookingDTO.getSeatNumber());
         booking.setUserId(bookingDTO.getUserId());
 
+        Booking saved;
         try {
-            return bookingRepository.save(booking);
+            // Flush here: sequence ids defer the INSERT to commit, which would escape this catch
+            saved = bookingRepository.saveAndFlush(booking);
         } catch (DataIntegrityViolationException e) {
             // If we get a unique constraint violation, it means another thread beat us to it
-            throw new SeatAlreadyBookedException(bookingDTO.getShowtimeId(), bookingDTO.getSeatNumber());
+            if (DataIntegrityViolation.of(e).isUniqueKey()) {
+                throw new SeatAlreadyBookedException(bookingDTO.getShowtimeId(), bookingDTO.getSeatNumber());
+            }
+            throw e;
         } catch (OptimisticLockException e) {
             // If we get an optimistic lock exception, it means another thread modified the data
             throw new SeatAlreadyBookedException(bookingDTO.getShowtimeId(), bookingDTO.getSeatNumber());
         }
+
+        // Downstream systems are notified by OutboxRelay after commit, outside this transaction
+        bookingOutbox.recordBookingCreated(saved);
+        return saved;
+    }
+
+    // Same outcome as the JPA path in two INSERTs: the seat check is left to uk_bookings_showtime_seat
+    private Booking createBookingWithJdbc(BookingDTO bookingDTO) {
+        OptionalLong id;
+        try {
+            id = jdbcBookingRepository.insert(
+                    bookingDTO.getShowtimeId(), bookingDTO.getSeatNumber(), bookingDTO.getUserId());
+        } catch (DataIntegrityViolationException e) {
+            if (DataIntegrityViolation.of(e).isUniqueKey()) {
+                throw new SeatAlreadyBookedException(bookingDTO.getShowtimeId(), bookingDTO.getSeatNumber());
+            }
+            throw e;
+        }
+        if (id.isEmpty()) {
+            throw new ShowtimeNotFoundException(bookingDTO.getShowtimeId());
+        }
+
+        jdbcBookingRepository.insertOutboxEvent(bookingOutbox.bookingCreated(
+                id.getAsLong(), bookingDTO.getShowtimeId(), bookingDTO.getSeatNumber(), bookingDTO.getUserId()));
+
+        Booking booking = new Booking();
+        booking.setId(id.getAsLong());
+        booking.setSeatNumber(bookingDTO.getSeatNumber());
+        booking.setUserId(bookingDTO.getUserId());
+        return booking;
     }
-} 
\ No newline at end of file
+}
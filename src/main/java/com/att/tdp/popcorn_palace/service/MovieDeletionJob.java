@@ -0,0 +1,75 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Component
+public class MovieDeletionJob {
+
+    private final MovieRepository movieRepository;
+    private final ShowtimeRepository showtimeRepository;
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShowtimeService showtimeService;
+    private final int chunkSize;
+
+    @Autowired
+    public MovieDeletionJob(MovieRepository movieRepository,
+                            ShowtimeRepository showtimeRepository,
+                            BookingRepository bookingRepository,
+                            TransactionTemplate transactionTemplate,
+                            ShowtimeService showtimeService,
+                            @Value("${popcorn-palace.movies.delete.chunk-size:100}") int chunkSize) {
+        this.movieRepository = movieRepository;
+        this.showtimeRepository = showtimeRepository;
+        this.bookingRepository = bookingRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.showtimeService = showtimeService;
+        this.chunkSize = chunkSize;
+    }
+
+    // Completes once the job has ended, successfully or not
+    @Async
+    public CompletableFuture<Void> deleteInBackground(Long movieId, String title) {
+        try {
+            run(movieId);
+            log.info("Deleted movie '{}' (id {}) in background", title, movieId);
+        } catch (RuntimeException e) {
+            log.error("Background deletion of movie '{}' (id {}) failed", title, movieId, e);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // Each chunk of showtimes is removed in its own short transaction so row locks are released as we go
+    void run(Long movieId) {
+        List<Long> showtimeIds;
+        while (!(showtimeIds = showtimeRepository.findIdsByMovieId(movieId, Limit.of(chunkSize))).isEmpty()) {
+            List<Long> chunk = showtimeIds;
+            transactionTemplate.executeWithoutResult(status -> {
+                bookingRepository.bulkDeleteByShowtimeIds(chunk);
+                showtimeRepository.bulkDeleteByIds(chunk);
+                showtimeService.evictCoalescedShowtimes(chunk);
+            });
+        }
+
+        // Final sweep also catches showtimes added for the movie while the chunks were running
+        transactionTemplate.executeWithoutResult(status -> {
+            bookingRepository.bulkDeleteByMovieId(movieId);
+            showtimeRepository.bulkDeleteByMovieId(movieId);
+            movieRepository.bulkDeleteById(movieId);
+            showtimeService.evictAllCoalescedShowtimes();
+        });
+    }
+}
@@ -0,0 +1,262 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.dto.MovieDTO;
+import com.att.tdp.popcorn_palace.dto.MovieImportResult;
+import com.att.tdp.popcorn_palace.repository.MovieBulkRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class MovieImportService {
+
+    private static final List<String> CSV_COLUMNS = List.of("title", "genre", "duration", "rating", "releaseyear");
+
+    private final MovieBulkRepository movieBulkRepository;
+    private final MovieService movieService;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    @Autowired
+    public MovieImportService(MovieBulkRepository movieBulkRepository,
+                              MovieService movieService,
+                              TransactionTemplate transactionTemplate,
+                              Validator validator,
+                              ObjectMapper objectMapper,
+                              @Value("${popcorn-palace.movies.import.batch-size:500}") int batchSize,
+                              @Value("${popcorn-palace.movies.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.movieBulkRepository = movieBulkRepository;
+        this.movieService = movieService;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public MovieImportResult importCsv(InputStream body) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            ImportRun run = new ImportRun();
+            int[] columns = null;
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (columns == null) {
+                    columns = parseCsvHeader(line);
+                    continue;
+                }
+                run.processed++;
+                MovieDTO movie;
+                try {
+                    movie = toMovie(splitCsvLine(line), columns);
+                } catch (IllegalArgumentException e) {
+                    run.reject(lineNumber, e.getMessage());
+                    continue;
+                }
+                run.accept(lineNumber, movie);
+            }
+            return run.finish();
+        }
+    }
+
+    public MovieImportResult importNdjson(InputStream body) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            ImportRun run = new ImportRun();
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                run.processed++;
+                MovieDTO movie;
+                try {
+                    movie = objectMapper.readValue(line, MovieDTO.class);
+                } catch (JsonProcessingException e) {
+                    run.reject(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+                    continue;
+                }
+                run.accept(lineNumber, movie);
+            }
+            return run.finish();
+        }
+    }
+
+    private int[] parseCsvHeader(String line) {
+        List<String> header = splitCsvLine(line).stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        int[] columns = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            columns[i] = header.indexOf(CSV_COLUMNS.get(i));
+            if (columns[i] < 0) {
+                throw new IllegalArgumentException(
+                        "CSV header must contain the columns title, genre, duration, rating, releaseYear");
+            }
+        }
+        return columns;
+    }
+
+    private MovieDTO toMovie(List<String> fields, int[] columns) {
+        MovieDTO movie = new MovieDTO();
+        movie.setTitle(field(fields, columns[0]));
+        movie.setGenre(field(fields, columns[1]));
+        movie.setDuration(parseInteger(field(fields, columns[2]), "duration"));
+        movie.setRating(parseDouble(field(fields, columns[3]), "rating"));
+        movie.setReleaseYear(parseInteger(field(fields, columns[4]), "releaseYear"));
+        return movie;
+    }
+
+    private static String field(List<String> fields, int index) {
+        if (index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isBlank() ? null : value;
+    }
+
+    private static Integer parseInteger(String value, String name) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + name + ": '" + value + "'");
+        }
+    }
+
+    private static Double parseDouble(String value, String name) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + name + ": '" + value + "'");
+        }
+    }
+
+    // RFC 4180 quoting within a single line; quoted fields spanning lines are not supported.
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private class ImportRun {
+        private final MovieImportResult result = new MovieImportResult();
+        private final List<MovieDTO> batch = new ArrayList<>(batchSize);
+        private final List<Long> batchLines = new ArrayList<>(batchSize);
+        private long processed;
+
+        void accept(long lineNumber, MovieDTO movie) {
+            Set<ConstraintViolation<MovieDTO>> violations = validator.validate(movie);
+            if (!violations.isEmpty()) {
+                reject(lineNumber, violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            batch.add(movie);
+            batchLines.add(lineNumber);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long lineNumber, String message) {
+            result.setFailed(result.getFailed() + 1);
+            if (result.getErrors().size() < maxReportedErrors) {
+                result.getErrors().add(new MovieImportResult.LineError(lineNumber, message));
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+
+        MovieImportResult finish() {
+            flush();
+            result.setProcessed(processed);
+            return result;
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> movieBulkRepository.upsertByTitle(batch));
+                movieBulkRepository.evictCachedMovies();
+                movieService.evictCoalescedMovies();
+                result.setImported(result.getImported() + batch.size());
+            } catch (DataAccessException e) {
+                // Replay the failed batch row by row so the error is pinned to the offending lines
+                for (int i = 0; i < batch.size(); i++) {
+                    List<MovieDTO> single = List.of(batch.get(i));
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> movieBulkRepository.upsertByTitle(single));
+                        movieBulkRepository.evictCachedMovies();
+                        movieService.evictCoalescedMovies();
+                        result.setImported(result.getImported() + 1);
+                    } catch (DataAccessException rowError) {
+                        reject(batchLines.get(i), NestedExceptionUtils.getMostSpecificCause(rowError).getMessage());
+                    }
+                }
+            }
+            batch.clear();
+            batchLines.clear();
+        }
+    }
+}
@@ -1,29 +1,65 @@
 package com.att.tdp.popcorn_palace.service;
 
+import com.att.tdp.popcorn_palace.config.ReadYourWritesContext;
 import com.att.tdp.popcorn_palace.dto.MovieDTO;
 import com.att.tdp.popcorn_palace.exception.movie.MovieAlreadyExistsException;
 import com.att.tdp.popcorn_palace.exception.movie.MovieNotFoundException;
 import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.CatalogBatchRepository;
 import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
 
 @Service
 public class MovieService {
 
     private final MovieRepository movieRepository;
+    private final ShowtimeRepository showtimeRepository;
+    private final BookingRepository bookingRepository;
+    private final CatalogBatchRepository catalogBatchRepository;
+    private final MovieDeletionJob movieDeletionJob;
+    private final ShowtimeService showtimeService;
+    private final SingleFlight<String, List<Movie>> movieListLoads;
 
     @Autowired
-    public MovieService(MovieRepository movieRepository) {
+    public MovieService(MovieRepository movieRepository,
+                        ShowtimeRepository showtimeRepository,
+                        BookingRepository bookingRepository,
+                        CatalogBatchRepository catalogBatchRepository,
+                        MovieDeletionJob movieDeletionJob,
+                        ShowtimeService showtimeService,
+                        @Value("${popcorn-palace.coalescing.micro-ttl:0ms}") Duration coalescingMicroTtl) {
         this.movieRepository = movieRepository;
+        this.showtimeRepository = showtimeRepository;
+        this.bookingRepository = bookingRepository;
+        this.catalogBatchRepository = catalogBatchRepository;
+        this.movieDeletionJob = movieDeletionJob;
+        this.showtimeService = showtimeService;
+        this.movieListLoads = new SingleFlight<>(coalescingMicroTtl);
     }
 
+    // Concurrent calls share one findAll, which runs in the repository's own read-only transaction;
+    // the list is shared between callers, hence unmodifiable
     public List<Movie> getAllMovies() {
-        return movieRepository.findAll();
+        if (ReadYourWritesContext.isPinned()) {
+            return List.copyOf(movieRepository.findAll());
+        }
+        return movieListLoads.load("all", () -> List.copyOf(movieRepository.findAll()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Movie> getMovies(List<Long> ids) {
+        return catalogBatchRepository.findMoviesInOrder(ids);
     }
 
+    @Transactional
     public Movie addMovie(MovieDTO movieDTO) {
         if (movieRepository.existsByTitle(movieDTO.getTitle())) {
             throw new MovieAlreadyExistsException(movieDTO.getTitle());
@@ -36,9 +72,11 @@ public class MovieService {
         movie.setRating(movieDTO.getRating());
         movie.setReleaseYear(movieDTO.getReleaseYear());
 
+        movieListLoads.invalidateAllAfterCommit();
         return movieRepository.save(movie);
     }
 
+    @Transactional
     public Movie updateMovie(String title, MovieDTO movieDTO) {
         Movie existingMovie = movieRepository.findByTitle(title)
                 .orElseThrow(() -> new MovieNotFoundException(title));
@@ -48,13 +86,34 @@ public class MovieService {
         existingMovie.setRating(movieDTO.getRating());
         existingMovie.setReleaseYear(movieDTO.getReleaseYear());
 
+        movieListLoads.invalidateAllAfterCommit();
+        // Coalesced showtimes carry their movie
+        showtimeService.evictAllCoalescedShowtimes();
         return movieRepository.save(existingMovie);
     }
 
+    @Transactional
     public void deleteMovie(String title) {
-        if (!movieRepository.existsByTitle(title)) {
-            throw new MovieNotFoundException(title);
-        }
-        movieRepository.deleteByTitle(title);
+        Long movieId = movieRepository.findIdByTitle(title)
+                .orElseThrow(() -> new MovieNotFoundException(title));
+
+        // Set-based cascade: bookings -> showtimes -> movie, without loading any entity
+        bookingRepository.bulkDeleteByMovieId(movieId);
+        showtimeRepository.bulkDeleteByMovieId(movieId);
+        movieRepository.bulkDeleteById(movieId);
+        movieListLoads.invalidateAllAfterCommit();
+        showtimeService.evictAllCoalescedShowtimes();
+    }
+
+    public void deleteMovieInBackground(String title) {
+        Long movieId = movieRepository.findIdByTitle(title)
+                .orElseThrow(() -> new MovieNotFoundException(title));
+        movieDeletionJob.deleteInBackground(movieId, title).thenRun(movieListLoads::invalidateAll);
+    }
+
+    // For writers that bypass this service, such as the CSV/NDJSON import
+    public void evictCoalescedMovies() {
+        movieListLoads.invalidateAllAfterCommit();
+        showtimeService.evictAllCoalescedShowtimes();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.att.tdp.popcorn_palace.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of {@code showtimes} and {@code bookings} (PostgreSQL, see
+ * {@code db/vendor/postgresql}) rolling: creates the next months ahead of time and detaches
+ * months older than the retention window. Detached partitions stay as standalone tables.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "popcorn-palace.partitioning.enabled", havingValue = "true")
+public class PartitionMaintenanceJob {
+
+    static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern SHOWTIME_PARTITION = Pattern.compile("showtimes_p(\\d{6})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final boolean enabled;
+    private final Clock clock;
+    private volatile Boolean partitioned;
+
+    @Autowired
+    public PartitionMaintenanceJob(JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${popcorn-palace.partitioning.premake-months:12}") int premakeMonths,
+                                   @Value("${popcorn-palace.partitioning.retention-months:6}") int retentionMonths,
+                                   @Value("${popcorn-palace.partitioning.enabled:false}") boolean enabled) {
+        this(jdbcTemplate, transactionTemplate, premakeMonths, retentionMonths, enabled, Clock.systemUTC());
+    }
+
+    PartitionMaintenanceJob(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                            int premakeMonths, int retentionMonths, boolean enabled, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.enabled = enabled;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${popcorn-palace.partitioning.cron:0 0 3 * * *}", zone = "UTC")
+    public void maintain() {
+        // An AOT-processed build keeps this bean whatever the property was at build time, and the
+        // property alone does not say whether the migrations partitioned the tables (PostgreSQL only)
+        if (!enabled || !isPartitioned()) {
+            return;
+        }
+        YearMonth current = YearMonth.now(clock.withZone(ZoneOffset.UTC));
+        for (int i = 0; i <= premakeMonths; i++) {
+            createPartitions(current.plusMonths(i));
+        }
+        try {
+            detachPartitionsBefore(current.minusMonths(retentionMonths));
+        } catch (DataAccessException e) {
+            // This also runs at startup, which a failed clean-up should not abort
+            log.error("Could not detach partitions before {}", current.minusMonths(retentionMonths), e);
+        }
+    }
+
+    public void createPartitions(YearMonth month) {
+        String suffix = month.format(SUFFIX);
+        OffsetDateTime from = month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+        OffsetDateTime to = from.plusMonths(1);
+        try {
+            for (String table : List.of("showtimes", "bookings")) {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + "_p" + suffix +
+                        " PARTITION OF " + table + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+            }
+        } catch (DataAccessException e) {
+            // Typically rows for this month already sit in the default partition
+            log.error("Could not create partitions for {}", month, e);
+        }
+    }
+
+    boolean isPartitioned() {
+        if (partitioned == null) {
+            try {
+                Integer count = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM pg_partitioned_table t JOIN pg_class c ON c.oid = t.partrelid " +
+                        "WHERE c.relname = 'showtimes'", Integer.class);
+                partitioned = count != null && count > 0;
+            } catch (DataAccessException e) {
+                // No PostgreSQL catalog, such as on H2
+                partitioned = false;
+            }
+            if (!partitioned) {
+                log.warn("showtimes is not partitioned, partition maintenance is skipped");
+            }
+        }
+        return partitioned;
+    }
+
+    void detachPartitionsBefore(YearMonth cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = 'showtimes' ORDER BY c.relname", String.class);
+        for (String partition : partitions) {
+            Matcher matcher = SHOWTIME_PARTITION.matcher(partition);
+            if (!matcher.matches() || !YearMonth.parse(matcher.group(1), SUFFIX).isBefore(cutoff)) {
+                continue;
+            }
+            String suffix = matcher.group(1);
+            transactionTemplate.executeWithoutResult(status -> {
+                // Bookings first: their partition references the showtimes partition being detached
+                jdbcTemplate.execute("ALTER TABLE bookings DETACH PARTITION bookings_p" + suffix);
+                dropForeignKeys("bookings_p" + suffix);
+                jdbcTemplate.execute("ALTER TABLE showtimes DETACH PARTITION showtimes_p" + suffix);
+                dropForeignKeys("showtimes_p" + suffix);
+            });
+            log.info("Detached showtimes_p{} and bookings_p{}", suffix, suffix);
+        }
+    }
+
+    // Detached tables keep copies of the parent's foreign keys, which would block deleting
+    // live showtimes and movies.
+    private void dropForeignKeys(String table) {
+        List<String> constraints = jdbcTemplate.queryForList(
+                "SELECT conname FROM pg_constraint WHERE conrelid = CAST(? AS regclass) AND contype = 'f'",
+                String.class, table);
+        for (String constraint : constraints) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP CONSTRAINT \"" + constraint + "\"");
+        }
+    }
+}
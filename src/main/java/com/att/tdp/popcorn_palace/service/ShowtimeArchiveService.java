@@ -0,0 +1,29 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.dto.ArchivedShowtime;
+import com.att.tdp.popcorn_palace.exception.showtime.ShowtimeNotFoundException;
+import com.att.tdp.popcorn_palace.repository.ShowtimeArchiveRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class ShowtimeArchiveService {
+
+    private final ShowtimeArchiveRepository archiveRepository;
+
+    @Autowired
+    public ShowtimeArchiveService(ShowtimeArchiveRepository archiveRepository) {
+        this.archiveRepository = archiveRepository;
+    }
+
+    public ArchivedShowtime getArchivedShowtime(Long id) {
+        return archiveRepository.findById(id)
+                .orElseThrow(() -> new ShowtimeNotFoundException(id));
+    }
+
+    public List<ArchivedShowtime> getArchivedShowtimesForMovie(Long movieId) {
+        return archiveRepository.findByMovieId(movieId);
+    }
+}
@@ -0,0 +1,122 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.dto.ArchivedShowtime;
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeArchiveRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "popcorn-palace.archive.enabled", havingValue = "true")
+public class ShowtimeArchiver {
+
+    private final ShowtimeRepository showtimeRepository;
+    private final BookingRepository bookingRepository;
+    private final ShowtimeArchiveRepository archiveRepository;
+    private final ShowtimeService showtimeService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration grace;
+
+    @Autowired
+    public ShowtimeArchiver(ShowtimeRepository showtimeRepository,
+                            BookingRepository bookingRepository,
+                            ShowtimeArchiveRepository archiveRepository,
+                            ShowtimeService showtimeService,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${popcorn-palace.archive.chunk-size:200}") int chunkSize,
+                            @Value("${popcorn-palace.archive.grace:1h}") Duration grace) {
+        this.showtimeRepository = showtimeRepository;
+        this.bookingRepository = bookingRepository;
+        this.archiveRepository = archiveRepository;
+        this.showtimeService = showtimeService;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.grace = grace;
+    }
+
+    @Scheduled(fixedDelayString = "${popcorn-palace.archive.interval:15m}",
+               initialDelayString = "${popcorn-palace.archive.interval:15m}")
+    public void archiveOnSchedule() {
+        try {
+            int archived = archiveEndedShowtimes();
+            if (archived > 0) {
+                log.info("Archived {} ended showtimes", archived);
+            }
+        } catch (RuntimeException e) {
+            log.error("Archiving ended showtimes failed", e);
+        }
+    }
+
+    // Each chunk is written and then deleted in one transaction, so a failed run resumes where it stopped
+    public int archiveEndedShowtimes() {
+        ZonedDateTime cutoff = ZonedDateTime.now().minus(grace);
+        int archived = 0;
+        int chunk;
+        while ((chunk = transactionTemplate.execute(status -> archiveChunk(cutoff))) > 0) {
+            archived += chunk;
+        }
+        return archived;
+    }
+
+    private int archiveChunk(ZonedDateTime cutoff) {
+        List<Showtime> showtimes = showtimeRepository.lockEndedBefore(cutoff, chunkSize);
+        if (showtimes.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = showtimes.stream().map(Showtime::getId).toList();
+        List<Booking> read = bookingRepository.findByShowtimeIds(ids);
+        Map<Long, List<Booking>> bookings = read.stream()
+                .collect(Collectors.groupingBy(b -> b.getShowtime().getId()));
+
+        List<ArchivedShowtime> records = showtimes.stream()
+                .map(s -> toArchived(s, bookings.getOrDefault(s.getId(), List.of())))
+                .toList();
+        try {
+            archiveRepository.write(records);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // Databases whose foreign key checks ignore the showtime lock could still let a booking in;
+        // rolling back keeps it, and the next run rewrites the chunk's file with it
+        int deleted = bookingRepository.bulkDeleteByShowtimeIds(ids);
+        if (deleted != read.size()) {
+            throw new IllegalStateException("Showtimes " + ids + " were booked while being archived: "
+                    + read.size() + " bookings archived, " + deleted + " deleted");
+        }
+        showtimeRepository.bulkDeleteByIds(ids);
+        showtimeService.evictCoalescedShowtimes(ids);
+        return showtimes.size();
+    }
+
+    private static ArchivedShowtime toArchived(Showtime showtime, List<Booking> bookings) {
+        return new ArchivedShowtime(
+                showtime.getId(),
+                showtime.getMovie().getId(),
+                showtime.getTheater(),
+                showtime.getStartTime(),
+                showtime.getEndTime(),
+                showtime.getPrice(),
+                bookings.stream()
+                        .map(b -> new ArchivedShowtime.ArchivedBooking(b.getId(), b.getSeatNumber(), b.getUserId()))
+                        .toList());
+    }
+}
@@ -1,18 +1,27 @@
 package com.att.tdp.popcorn_palace.service;
 
+import com.att.tdp.popcorn_palace.config.ReadYourWritesContext;
 import com.att.tdp.popcorn_palace.dto.ShowtimeDTO;
 import com.att.tdp.popcorn_palace.exception.movie.MovieNotFoundException;
 import com.att.tdp.popcorn_palace.exception.showtime.OverlappingShowtimeException;
 import com.att.tdp.popcorn_palace.exception.showtime.ShowtimeNotFoundException;
 import com.att.tdp.popcorn_palace.model.Movie;
 import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.observability.jfr.OverlapCheckEvent;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.CatalogBatchRepository;
 import com.att.tdp.popcorn_palace.repository.MovieRepository;
 import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -20,11 +29,28 @@ public class ShowtimeService {
 
     private final ShowtimeRepository showtimeRepository;
     private final MovieRepository movieRepository;
+    private final BookingRepository bookingRepository;
+    private final CatalogBatchRepository catalogBatchRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration maxDuration;
+    private final SingleFlight<Long, Showtime> showtimeLoads;
 
     @Autowired
-    public ShowtimeService(ShowtimeRepository showtimeRepository, MovieRepository movieRepository) {
+    public ShowtimeService(ShowtimeRepository showtimeRepository,
+                           MovieRepository movieRepository,
+                           BookingRepository bookingRepository,
+                           CatalogBatchRepository catalogBatchRepository,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${popcorn-palace.showtimes.max-duration:24h}") Duration maxDuration,
+                           @Value("${popcorn-palace.coalescing.micro-ttl:0ms}") Duration coalescingMicroTtl) {
         this.showtimeRepository = showtimeRepository;
         this.movieRepository = movieRepository;
+        this.bookingRepository = bookingRepository;
+        this.catalogBatchRepository = catalogBatchRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxDuration = maxDuration;
+        this.showtimeLoads = new SingleFlight<>(coalescingMicroTtl);
     }
 
     @Transactional
@@ -54,18 +80,36 @@ public class ShowtimeService {
 
         checkForOverlappingShowtimes(showtimeDTO, id);
 
+        boolean startChanged = !showtimeDTO.getStartTime().isEqual(existingShowtime.getStartTime());
+
         existingShowtime.setMovie(movie);
         existingShowtime.setTheater(showtimeDTO.getTheater());
         existingShowtime.setStartTime(showtimeDTO.getStartTime());
         existingShowtime.setEndTime(showtimeDTO.getEndTime());
         existingShowtime.setPrice(showtimeDTO.getPrice());
 
-        return showtimeRepository.save(existingShowtime);
+        showtimeLoads.invalidateAfterCommit(id);
+        if (!startChanged) {
+            return showtimeRepository.save(existingShowtime);
+        }
+        // Bookings are keyed by their showtime's start; PostgreSQL cascades the partitioned FK,
+        // other databases rely on this update. Flush first so the new start exists when it runs.
+        Showtime saved = showtimeRepository.saveAndFlush(existingShowtime);
+        bookingRepository.updateShowtimeStart(id, saved.getStartTime());
+        return saved;
     }
 
+    // Concurrent reads of one showtime share a single load; followers wait without holding a
+    // transaction or connection. Callers pinned to the primary after a write load on their own.
     public Showtime getShowtime(Long id) {
-        return showtimeRepository.findById(id)
-                .orElseThrow(() -> new ShowtimeNotFoundException(id));
+        if (ReadYourWritesContext.isPinned()) {
+            return loadShowtime(id);
+        }
+        return showtimeLoads.load(id, () -> loadShowtime(id));
+    }
+
+    public List<Showtime> getShowtimes(List<Long> ids) {
+        return readOnlyTransaction.execute(status -> catalogBatchRepository.findShowtimesInOrder(ids));
     }
 
     @Transactional
@@ -73,27 +117,71 @@ public class ShowtimeService {
         if (!showtimeRepository.existsById(id)) {
             throw new ShowtimeNotFoundException(id);
         }
+        showtimeLoads.invalidateAfterCommit(id);
         showtimeRepository.deleteById(id);
     }
 
+    // For writers that bypass this service, such as the archiver and movie deletion; a coalesced
+    // result would otherwise outlive their change by up to the micro-TTL
+    public void evictCoalescedShowtimes(Collection<Long> ids) {
+        ids.forEach(showtimeLoads::invalidateAfterCommit);
+    }
+
+    public void evictAllCoalescedShowtimes() {
+        showtimeLoads.invalidateAllAfterCommit();
+    }
+
+    // The movie is initialized so callers sharing the result can serialize it outside this transaction
+    private Showtime loadShowtime(Long id) {
+        return readOnlyTransaction.execute(status -> {
+            Showtime showtime = showtimeRepository.findById(id)
+                    .orElseThrow(() -> new ShowtimeNotFoundException(id));
+            Hibernate.initialize(showtime.getMovie());
+            return showtime;
+        });
+    }
+
     private void checkForOverlappingShowtimes(ShowtimeDTO showtimeDTO) {
         checkForOverlappingShowtimes(showtimeDTO, null);
     }
 
     private void checkForOverlappingShowtimes(ShowtimeDTO showtimeDTO, Long excludeId) {
+        OverlapCheckEvent event = new OverlapCheckEvent();
+        event.begin();
+        try {
+            checkForOverlappingShowtimes(showtimeDTO, excludeId, event);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.showtimeId = excludeId == null ? 0 : excludeId;
+                event.theater = showtimeDTO.getTheater();
+                event.commit();
+            }
+        }
+    }
+
+    private void checkForOverlappingShowtimes(ShowtimeDTO showtimeDTO, Long excludeId, OverlapCheckEvent event) {
         if (!showtimeDTO.getEndTime().isAfter(showtimeDTO.getStartTime())) {
             throw new IllegalArgumentException("End time must be after start time");
         }
+        if (Duration.between(showtimeDTO.getStartTime(), showtimeDTO.getEndTime()).compareTo(maxDuration) > 0) {
+            throw new IllegalArgumentException("Showtime cannot be longer than " + maxDuration.toHours() + " hours");
+        }
 
-        // Movie check moved after validation (still done in the calling method)
+        // Movie check moved after validation (still done in the calling method).
+        // No showtime is longer than maxDuration, so anything that overlaps started after
+        // startTime - maxDuration; the lower bound lets partitioned tables prune older months.
         List<Showtime> overlapping = showtimeRepository.findOverlappingShowtimes(
                 showtimeDTO.getTheater(),
                 showtimeDTO.getStartTime(),
-                showtimeDTO.getEndTime());
+                showtimeDTO.getEndTime(),
+                showtimeDTO.getStartTime().minus(maxDuration));
 
         if (excludeId != null) {
             overlapping.removeIf(s -> s.getId().equals(excludeId));
         }
+        event.overlapping = overlapping.size();
+        event.outcome = overlapping.isEmpty() ? "free" : "overlap";
 
         if (!overlapping.isEmpty()) {
             DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
@@ -0,0 +1,142 @@
+package com.att.tdp.popcorn_palace.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent loads of the same key into one: the first caller runs the loader and every
+ * caller that arrives while it is in flight waits for and shares its result or exception. With a
+ * micro-TTL, a successful result also answers callers for that long after it completed.
+ * Results are shared between threads, so loaders must return values nobody mutates.
+ */
+public class SingleFlight<K, V> {
+
+    // Completed entries past this many are swept for expired ones
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    public SingleFlight(Duration microTtl) {
+        this(microTtl, System::nanoTime);
+    }
+
+    SingleFlight(Duration microTtl, LongSupplier nanoClock) {
+        this.ttlNanos = microTtl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        while (true) {
+            Flight<V> flight = flights.get(key);
+            if (flight != null) {
+                if (!flight.result.isDone() || flight.isFresh(nanoClock.getAsLong())) {
+                    return await(flight);
+                }
+                flights.remove(key, flight);
+                continue;
+            }
+
+            Flight<V> own = new Flight<>();
+            if (flights.putIfAbsent(key, own) != null) {
+                continue;
+            }
+            return lead(key, own, loader);
+        }
+    }
+
+    public void invalidate(K key) {
+        flights.remove(key);
+    }
+
+    public void invalidateAll() {
+        flights.clear();
+    }
+
+    // Also after the surrounding transaction ends, so a load that started before the write
+    // committed does not outlive it
+    public void invalidateAfterCommit(K key) {
+        invalidate(key);
+        afterCompletion(() -> invalidate(key));
+    }
+
+    public void invalidateAllAfterCommit() {
+        invalidateAll();
+        afterCompletion(this::invalidateAll);
+    }
+
+    int size() {
+        return flights.size();
+    }
+
+    private V lead(K key, Flight<V> own, Supplier<V> loader) {
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, own);
+            own.result.completeExceptionally(e);
+            throw e;
+        }
+        if (ttlNanos <= 0) {
+            flights.remove(key, own);
+        } else {
+            own.completedAt = nanoClock.getAsLong();
+            if (flights.size() > SWEEP_THRESHOLD) {
+                long now = nanoClock.getAsLong();
+                flights.values().removeIf(flight -> flight.result.isDone() && !flight.isFresh(now));
+            }
+        }
+        own.result.complete(value);
+        return value;
+    }
+
+    private static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private V await(Flight<V> flight) {
+        try {
+            return flight.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            // Rethrow the leader's own exception; domain exceptions carry no stack trace to share
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    private final class Flight<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        boolean isFresh(long now) {
+            return ttlNanos > 0 && !result.isCompletedExceptionally() && now - completedAt < ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.att.tdp.popcorn_palace.service.outbox;
+
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.OutboxEvent;
+import com.att.tdp.popcorn_palace.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class BookingOutbox {
+
+    public static final String BOOKING_CREATED = "BookingCreated";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public BookingOutbox(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    // Must share the booking's transaction: the event exists exactly when the booking does
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordBookingCreated(Booking booking) {
+        outboxEventRepository.save(bookingCreated(
+                booking.getId(), booking.getShowtime().getId(), booking.getSeatNumber(), booking.getUserId()));
+    }
+
+    public OutboxEvent bookingCreated(Long bookingId, Long showtimeId, Integer seatNumber, String userId) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("bookingId", bookingId);
+        payload.put("showtimeId", showtimeId);
+        payload.put("seatNumber", seatNumber);
+        payload.put("userId", userId);
+
+        OutboxEvent event = new OutboxEvent();
+        event.setEventType(BOOKING_CREATED);
+        event.setAggregateId(bookingId);
+        event.setCreatedAt(Instant.now());
+        try {
+            event.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize booking event", e);
+        }
+        return event;
+    }
+}
@@ -0,0 +1,64 @@
+package com.att.tdp.popcorn_palace.service.outbox;
+
+import com.att.tdp.popcorn_palace.model.OutboxEvent;
+import com.att.tdp.popcorn_palace.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "popcorn-palace.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxSink outboxSink,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${popcorn-palace.outbox.relay.batch-size:100}") int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSink = outboxSink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${popcorn-palace.outbox.relay.interval:500ms}")
+    public void relayPending() {
+        try {
+            while (relayBatch() == batchSize) {
+                // keep draining while full batches come back
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed; undelivered events are retried on the next run", e);
+        }
+    }
+
+    // Events are deleted only after the sink accepted them, in the transaction holding their row
+    // locks: a crash in between re-delivers the batch (at-least-once), never drops it.
+    int relayBatch() {
+        return transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            try {
+                outboxSink.publish(batch);
+            } catch (Exception e) {
+                throw new IllegalStateException("Outbox sink rejected " + batch.size() + " events", e);
+            }
+            outboxEventRepository.deleteByIds(batch.stream().map(OutboxEvent::getId).toList());
+            return batch.size();
+        });
+    }
+}
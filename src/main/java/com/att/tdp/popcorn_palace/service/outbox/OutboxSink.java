@@ -0,0 +1,15 @@
+package com.att.tdp.popcorn_palace.service.outbox;
+
+import com.att.tdp.popcorn_palace.model.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination of relayed outbox events. Delivery is at-least-once: a batch is re-published when
+ * the relay fails after {@link #publish} returned, so consumers should de-duplicate on event id.
+ */
+public interface OutboxSink {
+
+    /** Returns normally only once every event in the batch has been durably handed over. */
+    void publish(List<OutboxEvent> events) throws Exception;
+}
@@ -0,0 +1,49 @@
+-- Expects an empty schema. Databases created by Hibernate's ddl-auto before Flyway are not adopted;
+-- Instructions.md describes moving their data over by hand.
+
+-- The sequences start one block in, at Sequences.ALLOCATION_SIZE + 1; see that class for why.
+CREATE SEQUENCE movies_seq START WITH 51 INCREMENT BY 50;
+CREATE SEQUENCE showtimes_seq START WITH 51 INCREMENT BY 50;
+CREATE SEQUENCE bookings_seq START WITH 51 INCREMENT BY 50;
+
+CREATE TABLE movies (
+    id           BIGINT           NOT NULL,
+    title        VARCHAR(255)     NOT NULL,
+    genre        VARCHAR(255)     NOT NULL,
+    duration     INTEGER          NOT NULL,
+    rating       DOUBLE PRECISION NOT NULL,
+    release_year INTEGER          NOT NULL,
+    version      BIGINT,
+    CONSTRAINT pk_movies PRIMARY KEY (id),
+    CONSTRAINT uk_movies_title UNIQUE (title)
+);
+
+CREATE TABLE showtimes (
+    id         BIGINT                      NOT NULL,
+    movie_id   BIGINT                      NOT NULL,
+    theater    VARCHAR(255)                NOT NULL,
+    start_time TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    end_time   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    price      DOUBLE PRECISION            NOT NULL,
+    version    BIGINT,
+    CONSTRAINT pk_showtimes PRIMARY KEY (id),
+    CONSTRAINT fk_showtimes_movie FOREIGN KEY (movie_id) REFERENCES movies (id)
+);
+
+CREATE TABLE bookings (
+    id          BIGINT       NOT NULL,
+    showtime_id BIGINT       NOT NULL,
+    seat_number INTEGER      NOT NULL,
+    user_id     VARCHAR(255) NOT NULL,
+    version     BIGINT,
+    CONSTRAINT pk_bookings PRIMARY KEY (id),
+    CONSTRAINT uk_bookings_showtime_seat UNIQUE (showtime_id, seat_number),
+    CONSTRAINT fk_bookings_showtime FOREIGN KEY (showtime_id) REFERENCES showtimes (id)
+);
+
+-- Overlap check: theater equality plus a range on start_time/end_time
+CREATE INDEX idx_showtimes_theater_time ON showtimes (theater, start_time, end_time);
+-- Movie cascade deletes and per-movie showtime lookups
+CREATE INDEX idx_showtimes_movie_id ON showtimes (movie_id);
+-- Per-user booking lookups; seat checks use uk_bookings_showtime_seat
+CREATE INDEX idx_bookings_user_id ON bookings (user_id);
@@ -0,0 +1,11 @@
+-- Bookings carry their showtime's start time so PostgreSQL can partition them by showtime month
+-- and prune partitions on seat checks. Kept in sync with showtimes.start_time by the application
+-- (and by ON UPDATE CASCADE once the tables are partitioned).
+
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS showtime_start TIMESTAMP(6) WITH TIME ZONE;
+
+UPDATE bookings
+SET showtime_start = (SELECT s.start_time FROM showtimes s WHERE s.id = bookings.showtime_id)
+WHERE showtime_start IS NULL;
+
+ALTER TABLE bookings ALTER COLUMN showtime_start SET NOT NULL;
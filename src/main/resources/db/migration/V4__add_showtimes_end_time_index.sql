@@ -0,0 +1,2 @@
+-- Supports ShowtimeArchiver, which scans for showtimes that have ended
+CREATE INDEX IF NOT EXISTS idx_showtimes_end_time ON showtimes (end_time);
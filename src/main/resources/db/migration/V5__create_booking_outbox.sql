@@ -0,0 +1,14 @@
+-- Booking events written in the booking's transaction and drained by OutboxRelay.
+-- Deliberately no foreign key: events must survive the archiving or deletion of their booking.
+
+-- Starts one block in like the V1 sequences
+CREATE SEQUENCE IF NOT EXISTS booking_outbox_seq START WITH 51 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS booking_outbox (
+    id           BIGINT                      NOT NULL,
+    event_type   VARCHAR(64)                 NOT NULL,
+    aggregate_id BIGINT                      NOT NULL,
+    payload      VARCHAR(2000)               NOT NULL,
+    created_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_booking_outbox PRIMARY KEY (id)
+);
@@ -0,0 +1,145 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.JdbcBookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.OutboxEventRepository;
+import com.att.tdp.popcorn_palace.repository.SequenceIdAllocator;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.BookingService;
+import com.att.tdp.popcorn_palace.service.outbox.BookingOutbox;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Run with: mvn test -Pbenchmark -Dtest=BookingPathBenchmarkTest
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class BookingPathBenchmarkTest {
+
+    private static final int WARMUP_BOOKINGS = 2_000;
+    private static final int BOOKINGS = 10_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SequenceIdAllocator sequenceIdAllocator;
+
+    @Autowired
+    private BookingOutbox bookingOutbox;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private TransactionTemplate transactionTemplate;
+    private Movie movie;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepository.deleteAllInBatch();
+        bookingRepository.deleteAllInBatch();
+        showtimeRepository.deleteAllInBatch();
+        movieRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void compareJpaAndJdbcBookingPaths() {
+        // Same isolation as BookingService.createBooking; the services below are plain, unproxied instances
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+
+        movie = new Movie();
+        movie.setTitle("Benchmark Movie");
+        movie.setGenre("Drama");
+        movie.setDuration(120);
+        movie.setRating(7.0);
+        movie.setReleaseYear(2024);
+        movie = movieRepository.save(movie);
+
+        BookingService jpa = new BookingService(bookingRepository, showtimeRepository, bookingOutbox, null);
+        BookingService jdbc = new BookingService(bookingRepository, showtimeRepository, bookingOutbox,
+                new JdbcBookingRepository(jdbcTemplate, sequenceIdAllocator));
+
+        book(jpa, WARMUP_BOOKINGS, 0);
+        book(jdbc, WARMUP_BOOKINGS, 1);
+
+        Result jpaResult = book(jpa, BOOKINGS, 2);
+        Result jdbcResult = book(jdbc, BOOKINGS, 3);
+
+        System.out.println("Booking path, " + BOOKINGS + " bookings (booking + outbox row, one transaction each)");
+        System.out.println("  JPA : " + jpaResult);
+        System.out.println("  JDBC: " + jdbcResult);
+
+        assertTrue(jdbcResult.bytesPerBooking() < jpaResult.bytesPerBooking(),
+                "The JDBC path should allocate less per booking");
+    }
+
+    private Result book(BookingService bookingService, int bookings, int round) {
+        Showtime showtime = new Showtime();
+        showtime.setMovie(movie);
+        showtime.setTheater("Theater " + round);
+        showtime.setStartTime(ZonedDateTime.now().plusDays(1));
+        showtime.setEndTime(ZonedDateTime.now().plusDays(1).plusHours(3));
+        showtime.setPrice(10.0);
+        Long showtimeId = showtimeRepository.save(showtime).getId();
+
+        long thread = Thread.currentThread().getId();
+        long cpuBefore = THREADS.getCurrentThreadCpuTime();
+        long bytesBefore = THREADS.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int seat = 1; seat <= bookings; seat++) {
+            BookingDTO booking = new BookingDTO(showtimeId, seat, "user" + seat);
+            transactionTemplate.execute(status -> bookingService.createBooking(booking));
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long cpuNanos = THREADS.getCurrentThreadCpuTime() - cpuBefore;
+        long bytes = THREADS.getThreadAllocatedBytes(thread) - bytesBefore;
+
+        return new Result(bookings, elapsedNanos, cpuNanos, bytes);
+    }
+
+    private record Result(int bookings, long elapsedNanos, long cpuNanos, long bytes) {
+        long bytesPerBooking() {
+            return bytes / bookings;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            return String.format("%,.0f bookings/s, %,d ns CPU/booking, %,d B allocated/booking, %,.0f MB/s allocation rate",
+                    bookings / seconds, cpuNanos / bookings, bytesPerBooking(), bytes / seconds / (1024 * 1024));
+        }
+    }
+}
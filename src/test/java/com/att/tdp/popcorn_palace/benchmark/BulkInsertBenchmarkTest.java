@@ -0,0 +1,135 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Run with: mvn test -Pbenchmark -Dtest=BulkInsertBenchmarkTest
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class BulkInsertBenchmarkTest {
+
+    private static final int WARMUP_ROWS = 1_000;
+    private static final int ROWS = 10_000;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private Movie movie;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        bookingRepository.deleteAllInBatch();
+        showtimeRepository.deleteAllInBatch();
+        movieRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void compareRowByRowAndBatchedInserts() {
+        movie = new Movie();
+        movie.setTitle("Benchmark Movie");
+        movie.setGenre("Drama");
+        movie.setDuration(120);
+        movie.setRating(7.0);
+        movie.setReleaseYear(2024);
+        movie = movieRepository.save(movie);
+
+        insert(WARMUP_ROWS, 1);
+        insert(WARMUP_ROWS, 50);
+
+        // A JDBC batch size of 1 reproduces the one-round-trip-per-row behaviour of IDENTITY ids
+        Result rowByRow = insert(ROWS, 1);
+        Result batched = insert(ROWS, 50);
+
+        System.out.println("Bulk insert of " + ROWS + " showtimes + " + ROWS + " bookings");
+        System.out.println("  row by row (batch_size=1): " + rowByRow);
+        System.out.println("  batched    (batch_size=50): " + batched);
+
+        assertTrue(batched.statements() < rowByRow.statements(), "Batching should reduce JDBC statements");
+    }
+
+    private Result insert(int rows, int jdbcBatchSize) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+        Movie reference = entityManager.getReference(Movie.class, movie.getId());
+        ZonedDateTime base = ZonedDateTime.now().plusDays(1);
+
+        long start = System.nanoTime();
+        entityManager.getTransaction().begin();
+        for (int i = 0; i < rows; i++) {
+            Showtime showtime = new Showtime();
+            showtime.setMovie(reference);
+            showtime.setTheater("Theater " + (i % 20));
+            showtime.setStartTime(base.plusHours(i));
+            showtime.setEndTime(base.plusHours(i + 1));
+            showtime.setPrice(10.0);
+            entityManager.persist(showtime);
+
+            Booking booking = new Booking();
+            booking.setShowtime(showtime);
+            booking.setSeatNumber(1);
+            booking.setUserId("user" + i);
+            entityManager.persist(booking);
+
+            if ((i + 1) % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                reference = entityManager.getReference(Movie.class, movie.getId());
+            }
+        }
+        entityManager.getTransaction().commit();
+        long elapsedNanos = System.nanoTime() - start;
+        entityManager.close();
+
+        bookingRepository.deleteAllInBatch();
+        showtimeRepository.deleteAllInBatch();
+
+        return new Result(rows * 2, elapsedNanos, statistics.getPrepareStatementCount());
+    }
+
+    private record Result(long rows, long elapsedNanos, long statements) {
+        double rowsPerSecond() {
+            return rows / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,.0f rows/s, %d ms, %d JDBC statements prepared",
+                    rowsPerSecond(), elapsedNanos / 1_000_000, statements);
+        }
+    }
+}
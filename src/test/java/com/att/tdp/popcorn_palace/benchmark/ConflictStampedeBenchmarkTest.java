@@ -0,0 +1,173 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.att.tdp.popcorn_palace.exception.booking.SeatAlreadyBookedException;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.OutboxEventRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.lang.management.ManagementFactory;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+// Run with: mvn test -Pbenchmark -Dtest=ConflictStampedeBenchmarkTest
+@Tag("benchmark")
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=OFF"})
+@AutoConfigureMockMvc
+class ConflictStampedeBenchmarkTest {
+
+    private static final int THREADS = 32;
+    private static final int REQUESTS_PER_THREAD = 100;
+    private static final int STACK_DEPTH = 120;
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepository.deleteAllInBatch();
+        bookingRepository.deleteAllInBatch();
+        showtimeRepository.deleteAllInBatch();
+        movieRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void stampedeOnOneSeat() throws Exception {
+        Movie movie = new Movie(null, "Sold Out", "Drama", 120, 7.0, 2024, null);
+        movie = movieRepository.save(movie);
+        Showtime showtime = new Showtime(null, movie, "Theater 1", ZonedDateTime.now().plusDays(1),
+                ZonedDateTime.now().plusDays(1).plusHours(3), 10.0, null);
+        Long showtimeId = showtimeRepository.save(showtime).getId();
+
+        // Every request races for seat 1; exactly one wins and the rest are the 409 path under test
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<long[]>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[REQUESTS_PER_THREAD];
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    String body = "{\"showtimeId\":" + showtimeId + ",\"seatNumber\":1,\"userId\":\"user" + thread + "\"}";
+                    long requestStart = System.nanoTime();
+                    int status = mockMvc.perform(post("/bookings").contentType("application/json").content(body))
+                            .andReturn().getResponse().getStatus();
+                    latencies[i] = System.nanoTime() - requestStart;
+                    if (status == 201) {
+                        created.incrementAndGet();
+                    } else if (status == 409) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+                return latencies;
+            }));
+        }
+        long[] latencies = new long[THREADS * REQUESTS_PER_THREAD];
+        for (int t = 0; t < THREADS; t++) {
+            System.arraycopy(futures.get(t).get(), 0, latencies, t * REQUESTS_PER_THREAD, REQUESTS_PER_THREAD);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+        Arrays.sort(latencies);
+
+        System.out.printf("Stampede: %d threads x %d POST /bookings for one seat%n", THREADS, REQUESTS_PER_THREAD);
+        System.out.printf("  %,d created, %,d conflicts, %,.0f requests/s, p50 %,d us, p99 %,d us, max %,d us%n",
+                created.get(), conflicts.get(), latencies.length / (elapsedNanos / 1_000_000_000.0),
+                percentile(latencies, 0.50) / 1_000, percentile(latencies, 0.99) / 1_000,
+                latencies[latencies.length - 1] / 1_000);
+
+        Cost stackless = cost(() -> new SeatAlreadyBookedException(1L, 1));
+        Cost withStackTrace = cost(() -> new RuntimeException("Seat 1 is already booked for showtime with ID 1"));
+        System.out.printf("Exception construction %d frames deep%n", STACK_DEPTH);
+        System.out.println("  stackless       : " + stackless);
+        System.out.println("  with stack trace: " + withStackTrace);
+
+        assertEquals(1, created.get());
+        assertEquals(latencies.length - 1, conflicts.get());
+        assertTrue(stackless.nanosPerOp() < withStackTrace.nanosPerOp(),
+                "A stackless exception should be cheaper to construct");
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    // Constructed below STACK_DEPTH frames, roughly where a service call sits under Spring MVC
+    private static Cost cost(ExceptionFactory factory) {
+        return atDepth(STACK_DEPTH, factory);
+    }
+
+    private static Cost atDepth(int depth, ExceptionFactory factory) {
+        if (depth > 0) {
+            return atDepth(depth - 1, factory);
+        }
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += factory.create().getStackTrace().length;
+        }
+        long thread = Thread.currentThread().getId();
+        long bytesBefore = THREAD_MX.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += factory.create().getMessage().length();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = THREAD_MX.getThreadAllocatedBytes(thread) - bytesBefore;
+        if (sink == 0) {
+            throw new IllegalStateException("Nothing was constructed");
+        }
+        return new Cost((double) elapsed / ITERATIONS, bytes / ITERATIONS);
+    }
+
+    @FunctionalInterface
+    private interface ExceptionFactory {
+        RuntimeException create();
+    }
+
+    private record Cost(double nanosPerOp, long bytesPerOp) {
+        @Override
+        public String toString() {
+            return String.format("%,8.0f ns/op, %,6d B/op", nanosPerOp, bytesPerOp);
+        }
+    }
+}
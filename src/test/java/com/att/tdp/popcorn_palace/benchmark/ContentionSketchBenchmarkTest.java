@@ -0,0 +1,93 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.att.tdp.popcorn_palace.observability.HeavyHitters;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Run with: mvn test -Pbenchmark -Dtest=ContentionSketchBenchmarkTest
+@Tag("benchmark")
+class ContentionSketchBenchmarkTest {
+
+    private static final int SHOWTIMES = 100_000;
+    private static final int HOT_SHOWTIMES = 5;
+    private static final int WARMUP_OPS = 2_000_000;
+    private static final int OPS_PER_THREAD = 5_000_000;
+
+    @Test
+    void compareSketchWithExactCounting() throws Exception {
+        System.out.printf("record(showtimeId, conflict): %d showtimes, %d of them get 80%% of the attempts%n",
+                SHOWTIMES, HOT_SHOWTIMES);
+        for (int threads : new int[]{1, 8}) {
+            HeavyHitters sketch = new HeavyHitters(1024, 64);
+            ConcurrentMap<Long, LongAdder[]> exact = new ConcurrentHashMap<>();
+
+            // Generating the workload costs something too; it is measured alone and subtracted
+            double baselineNanos = run(threads, (showtimeId, conflict) -> {
+            });
+            double sketchNanos = run(threads, sketch::record) - baselineNanos;
+            double exactNanos = run(threads, (showtimeId, conflict) -> {
+                LongAdder[] counts = exact.computeIfAbsent(showtimeId, id -> new LongAdder[]{new LongAdder(), new LongAdder()});
+                counts[0].increment();
+                if (conflict) {
+                    counts[1].increment();
+                }
+            }) - baselineNanos;
+            System.out.printf("  %d thread(s): sketch %6.1f ns/op in fixed memory, exact map %6.1f ns/op over %,d keys%n",
+                    threads, sketchNanos, exactNanos, exact.size());
+
+            List<Long> hottest = sketch.top(HOT_SHOWTIMES).stream().map(HeavyHitters.Entry::key).sorted().toList();
+            assertEquals(List.of(0L, 1L, 2L, 3L, 4L), hottest);
+        }
+    }
+
+    private static double run(int threads, Recorder recorder) throws Exception {
+        drive(recorder, WARMUP_OPS);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                drive(recorder, OPS_PER_THREAD);
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - begin;
+        executor.shutdown();
+        // Wall time per operation, i.e. the inverse of the throughput all threads reach together
+        return (double) elapsedNanos / ((long) threads * OPS_PER_THREAD);
+    }
+
+    // An on-sale: most attempts go to a few showtimes and mostly conflict there
+    private static void drive(Recorder recorder, int ops) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < ops; i++) {
+            boolean hot = random.nextInt(10) < 8;
+            long showtimeId = hot ? random.nextInt(HOT_SHOWTIMES) : HOT_SHOWTIMES + random.nextInt(SHOWTIMES);
+            recorder.record(showtimeId, hot ? random.nextInt(10) < 9 : random.nextInt(50) == 0);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Recorder {
+        void record(long showtimeId, boolean conflict);
+    }
+}
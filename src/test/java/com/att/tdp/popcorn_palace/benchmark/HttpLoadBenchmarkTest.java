@@ -0,0 +1,196 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.att.tdp.popcorn_palace.PopcornPalaceApplication;
+import com.att.tdp.popcorn_palace.benchmark.load.HttpLoad;
+import com.att.tdp.popcorn_palace.benchmark.load.LoadResult;
+import com.sun.management.UnixOperatingSystemMXBean;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// End-to-end load over HTTP. Without -Dload.url the application is started here on H2; with it, the
+// load goes to a running instance, e.g. on the compose PostgreSQL, whose database is then given as
+// -Dload.jdbc-url (default jdbc:postgresql://localhost:5432/popcorn-palace) to count the bookings.
+// Run with: mvn test -Pbenchmark -Dtest=HttpLoadBenchmarkTest [-Dload.url=http://localhost:8080]
+@Tag("benchmark")
+class HttpLoadBenchmarkTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 128);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 5_000);
+    // Sent first and not reported, so a freshly started JVM is compiled before it is measured
+    private static final int WARMUP = Integer.getInteger("load.warmup", 2_000);
+    private static final int STAMPEDE_CLIENTS = Integer.getInteger("load.clients", 10_000);
+    private static final int SEATS = Integer.getInteger("load.seats", 200);
+    private static final int MOVIES = 50;
+    private static final int SHOWTIMES = 200;
+
+    private static ConfigurableApplicationContext application;
+    private static JdbcTemplate jdbcTemplate;
+    private static HttpLoad load;
+    // Titles and theaters are unique per run, so a long-running instance can be loaded repeatedly
+    private static final String RUN = Long.toString(System.currentTimeMillis(), 36);
+    private static final List<Long> movieIds = new ArrayList<>();
+    private static final List<Long> showtimeIds = new ArrayList<>();
+
+    @BeforeAll
+    static void startAndSeed() throws Exception {
+        String url = System.getProperty("load.url");
+        if (url == null) {
+            application = new SpringApplicationBuilder(PopcornPalaceApplication.class)
+                    .properties(
+                            "server.port=0",
+                            "spring.main.banner-mode=off",
+                            "logging.level.root=WARN",
+                            "logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=OFF",
+                            "management.tracing.sampling.probability=0.1",
+                            // Every stampede client holds its own connection
+                            "server.tomcat.max-connections=" + (STAMPEDE_CLIENTS + CONCURRENCY),
+                            "server.tomcat.accept-count=" + STAMPEDE_CLIENTS)
+                    .run();
+            url = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+            jdbcTemplate = application.getBean(JdbcTemplate.class);
+        } else {
+            jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                    System.getProperty("load.jdbc-url", "jdbc:postgresql://localhost:5432/popcorn-palace"),
+                    System.getProperty("load.jdbc-user", "popcorn-palace"),
+                    System.getProperty("load.jdbc-password", "popcorn-palace")));
+        }
+        load = new HttpLoad(URI.create(url), CONCURRENCY);
+
+        for (int i = 0; i < MOVIES; i++) {
+            movieIds.add(load.send(load.post("/movies", "{\"title\":\"Load " + RUN + " Movie " + i + "\","
+                    + "\"genre\":\"Drama\",\"duration\":120,\"rating\":7.5,\"releaseYear\":2024}")).get("id").asLong());
+        }
+        ZonedDateTime start = ZonedDateTime.now().plusDays(7);
+        for (int i = 0; i < SHOWTIMES; i++) {
+            showtimeIds.add(addShowtime(movieIds.get(i % MOVIES), "Load " + RUN + " Theater " + i, start));
+        }
+    }
+
+    @AfterAll
+    static void stop() {
+        if (application != null) {
+            application.close();
+        }
+    }
+
+    // Mostly the full listing, some lookups of a few movies by id
+    @Test
+    void catalogBrowsing() throws Exception {
+        IntFunction<HttpRequest> browse = i -> i % 10 < 7
+                ? load.get("/movies/all")
+                : load.get("/movies?ids=" + pick(movieIds, 5));
+        load.run("Warmup", WARMUP, browse);
+        LoadResult result = load.run("Catalog browsing", REQUESTS, browse);
+
+        System.out.print(result);
+        assertEquals(REQUESTS, result.count(200), "All catalog reads should succeed");
+    }
+
+    // Single showtimes by id with a skew towards a few popular ones, and a batch lookup now and then
+    @Test
+    void showtimeLookups() throws Exception {
+        IntFunction<HttpRequest> lookup = i -> i % 10 < 8
+                ? load.get("/showtimes/" + showtimeIds.get(skewed(showtimeIds.size())))
+                : load.get("/showtimes?ids=" + pick(showtimeIds, 10));
+        load.run("Warmup", WARMUP, lookup);
+        LoadResult result = load.run("Showtime lookups", REQUESTS, lookup);
+
+        System.out.print(result);
+        assertEquals(REQUESTS, result.count(200), "All showtime reads should succeed");
+    }
+
+    // Every client asks for one seat at the same moment; clients are spread evenly over the seats. No
+    // concurrency limit here: all requests are sent without waiting for a response, each on its own
+    // connection, so a running instance needs server.tomcat.max-connections above load.clients.
+    @Test
+    void premiereStampede() throws Exception {
+        Long rehearsal = addShowtime(movieIds.get(0), "Load " + RUN + " Rehearsal", ZonedDateTime.now().plusDays(8));
+        Long premiere = addShowtime(movieIds.get(0), "Load " + RUN + " Premiere", ZonedDateTime.now().plusDays(8));
+        HttpLoad crowd = new HttpLoad(load.baseUrl(), STAMPEDE_CLIENTS, Duration.ofMinutes(10));
+        requireDescriptors(application != null ? 2 * STAMPEDE_CLIENTS : STAMPEDE_CLIENTS);
+
+        load.run("Warmup", WARMUP, stampede(load, rehearsal));
+        LoadResult result = crowd.run(String.format("Premiere stampede, %,d clients at once for %d seats",
+                STAMPEDE_CLIENTS, SEATS), STAMPEDE_CLIENTS, stampede(crowd, premiere));
+
+        Integer bookings = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bookings WHERE showtime_id = ?", Integer.class, premiere);
+        System.out.print(result);
+        System.out.printf("  bookings in the database: %d%n", bookings);
+
+        Map<Integer, Integer> others = new TreeMap<>(result.statuses());
+        others.keySet().removeAll(Set.of(201, 409));
+        if (application != null) {
+            // The exact split is what H2 gives; other databases have only been run through the branch below
+            assertEquals(SEATS, result.count(201), "Exactly one client per seat should get a booking");
+            assertEquals(STAMPEDE_CLIENTS - SEATS, result.count(409), "Every other client should get a 409");
+            assertEquals(Map.of(), others, "No client should get anything but a booking or a 409");
+            assertEquals(SEATS, bookings, "Exactly one booking per seat should exist");
+        } else {
+            // A running instance can also turn clients away for its own reasons, such as a pool timeout.
+            // Those are reported, by status above and by ErrorResponse.error, but no seat may be sold twice.
+            if (!others.isEmpty()) {
+                System.out.printf("  statuses other than 201 and 409: %s%n", others);
+            }
+            assertEquals(result.count(201), bookings, "Every 201 should be a booking, and nothing else");
+            assertTrue(bookings <= SEATS, "No seat should be booked twice");
+        }
+    }
+
+    // Client sockets, and server sockets too when the application runs in this JVM
+    private static void requireDescriptors(long sockets) {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof UnixOperatingSystemMXBean os
+                && os.getMaxFileDescriptorCount() - os.getOpenFileDescriptorCount() < sockets + 256) {
+            throw new IllegalStateException(String.format("%,d clients at once need about %,d file descriptors, "
+                    + "the limit is %,d: raise ulimit -n or lower -Dload.clients", STAMPEDE_CLIENTS, sockets + 256,
+                    os.getMaxFileDescriptorCount()));
+        }
+    }
+
+    private static IntFunction<HttpRequest> stampede(HttpLoad clients, Long showtimeId) {
+        return i -> clients.post("/bookings", "{\"showtimeId\":" + showtimeId + ",\"seatNumber\":" + (i % SEATS + 1)
+                + ",\"userId\":\"client-" + i + "\"}");
+    }
+
+    private static Long addShowtime(Long movieId, String theater, ZonedDateTime start) throws Exception {
+        return load.send(load.post("/showtimes", "{\"movieId\":" + movieId + ",\"price\":12.0,"
+                + "\"theater\":\"" + theater + "\",\"startTime\":\"" + start.toOffsetDateTime() + "\","
+                + "\"endTime\":\"" + start.plusHours(3).toOffsetDateTime() + "\"}")).get("id").asLong();
+    }
+
+    // Index 0 is the most likely, as with a few showtimes everyone wants
+    private static int skewed(int size) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        return (int) (size * random * random * random);
+    }
+
+    private static String pick(List<Long> ids, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> ids.get(ThreadLocalRandom.current().nextInt(ids.size())).toString())
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,79 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs the JMH benchmarks in benchmark/jmh and writes target/jmh-result.json. Given the file of an
+// earlier run as -Djmh.baseline, fails on any benchmark more than -Djmh.tolerance (default 20%) slower.
+// Run with: mvn test -Pbenchmark -Dtest=JmhBenchmarkTest [-Djmh.include=OverlapCheckBenchmark]
+//           [-Djmh.baseline=main-jmh-result.json]
+@Tag("benchmark")
+class JmhBenchmarkTest {
+
+    private static final Path RESULT = Path.of("target", "jmh-result.json");
+
+    @Test
+    void runJmhBenchmarks() throws Exception {
+        Options options = new OptionsBuilder()
+                .include("com\\.att\\.tdp\\.popcorn_palace\\.benchmark\\.jmh\\..*"
+                        + System.getProperty("jmh.include", ""))
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULT.toString())
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+        assertTrue(!results.isEmpty(), "No benchmark matched " + System.getProperty("jmh.include"));
+
+        String baseline = System.getProperty("jmh.baseline");
+        if (baseline != null) {
+            double tolerance = Double.parseDouble(System.getProperty("jmh.tolerance", "0.2"));
+            List<String> regressions = regressions(scores(Path.of(baseline)), scores(RESULT), tolerance);
+            regressions.forEach(System.out::println);
+            assertTrue(regressions.isEmpty(), regressions.size() + " benchmark(s) regressed beyond "
+                    + Math.round(tolerance * 100) + "%, see above");
+        }
+    }
+
+    // All benchmarks here report average time, so a higher score is slower
+    private static List<String> regressions(Map<String, Double> baseline, Map<String, Double> current,
+                                            double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        current.forEach((benchmark, score) -> {
+            Double before = baseline.get(benchmark);
+            if (before != null && score > before * (1 + tolerance)) {
+                regressions.add(String.format("REGRESSION %s: %.3f -> %.3f (%+.0f%%)",
+                        benchmark, before, score, (score / before - 1) * 100));
+            }
+        });
+        return regressions;
+    }
+
+    private static Map<String, Double> scores(Path result) throws Exception {
+        Map<String, Double> scores = new TreeMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(Files.readString(result))) {
+            StringBuilder key = new StringBuilder(run.get("benchmark").asText());
+            if (run.has("params")) {
+                run.get("params").fields().forEachRemaining(param ->
+                        key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+            }
+            scores.put(key.toString(), run.get("primaryMetric").get("score").asDouble());
+        }
+        return scores;
+    }
+}
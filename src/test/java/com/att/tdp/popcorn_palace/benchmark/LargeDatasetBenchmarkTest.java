@@ -0,0 +1,165 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.att.tdp.popcorn_palace.PopcornPalaceApplication;
+import com.att.tdp.popcorn_palace.benchmark.data.DatasetGenerator;
+import com.att.tdp.popcorn_palace.benchmark.data.DatasetGenerator.Dataset;
+import com.att.tdp.popcorn_palace.benchmark.data.DatasetGenerator.Volumes;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Loads a synthetic catalog with DatasetGenerator, then times the overlap check and the seat check
+// against it and prints their plans. On H2 by default, at a size a laptop loads in about a minute;
+// with -Ddataset.jdbc-url against PostgreSQL, -Ddataset.* scale it to production volumes.
+// Run with: mvn test -Pbenchmark -Dtest=LargeDatasetBenchmarkTest
+@Tag("benchmark")
+class LargeDatasetBenchmarkTest {
+
+    private static final int PROBES = Integer.getInteger("dataset.probes", 2_000);
+    private static final Volumes VOLUMES = new Volumes(
+            Integer.getInteger("dataset.movies", 10_000),
+            Integer.getInteger("dataset.theaters", 50),
+            Integer.getInteger("dataset.showtimes", 100_000),
+            Long.getLong("dataset.bookings", 1_000_000),
+            Integer.getInteger("dataset.seats", 200),
+            Long.getLong("dataset.seed", 42));
+    // The service bounds the overlap check by the longest allowed showtime, popcorn-palace.showtimes.max-duration
+    private static final Duration MAX_DURATION = Duration.ofHours(24);
+
+    private static ConfigurableApplicationContext application;
+    private static JdbcTemplate jdbcTemplate;
+    private static Dataset dataset;
+
+    @BeforeAll
+    static void load() throws Exception {
+        // Command-line arguments, so they win over the test application.yaml
+        application = new SpringApplicationBuilder(PopcornPalaceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=" + System.getProperty("dataset.jdbc-url",
+                                "jdbc:h2:mem:dataset;MODE=PostgreSQL;DB_CLOSE_ON_EXIT=FALSE"),
+                        "--spring.datasource.username=" + System.getProperty("dataset.jdbc-user", "sa"),
+                        "--spring.datasource.password=" + System.getProperty("dataset.jdbc-password", "password"),
+                        // Derived from the URL
+                        "--spring.datasource.driver-class-name=",
+                        "--management.tracing.sampling.probability=0",
+                        "--popcorn-palace.sql-observer.sample-rate=0");
+        jdbcTemplate = application.getBean(JdbcTemplate.class);
+
+        System.out.printf("Loading %s%n", VOLUMES);
+        OffsetDateTime from = OffsetDateTime.now(ZoneOffset.UTC).minusMonths(5).truncatedTo(ChronoUnit.DAYS);
+        dataset = new DatasetGenerator(jdbcTemplate).generate(VOLUMES, from);
+        System.out.printf("Loaded %s%n", dataset);
+    }
+
+    @AfterAll
+    static void stop() {
+        if (application != null) {
+            application.close();
+        }
+    }
+
+    @Test
+    void loadsTheRequestedVolumes() {
+        assertEquals(VOLUMES.movies(), count("SELECT COUNT(*) FROM movies WHERE id BETWEEN ? AND ?",
+                dataset.firstMovieId(), dataset.firstMovieId() + dataset.movies() - 1));
+        assertEquals(VOLUMES.showtimes(), count("SELECT COUNT(*) FROM showtimes WHERE id BETWEEN ? AND ?",
+                dataset.firstShowtimeId(), dataset.firstShowtimeId() + dataset.showtimes() - 1));
+        assertEquals(dataset.bookings(), count("SELECT COUNT(*) FROM bookings WHERE showtime_id BETWEEN ? AND ?",
+                dataset.firstShowtimeId(), dataset.firstShowtimeId() + dataset.showtimes() - 1));
+        long target = Math.min(VOLUMES.bookings(), (long) VOLUMES.seatsPerShowtime() * VOLUMES.showtimes());
+        assertTrue(Math.abs(dataset.bookings() - target) <= target / 100 + VOLUMES.seatsPerShowtime(),
+                "Expected about " + target + " bookings, got " + dataset.bookings());
+    }
+
+    @Test
+    void overlapAndSeatChecksAtScale() {
+        ShowtimeRepository showtimeRepository = application.getBean(ShowtimeRepository.class);
+        BookingRepository bookingRepository = application.getBean(BookingRepository.class);
+        TransactionTemplate readOnly = new TransactionTemplate(application.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        Random random = new Random(VOLUMES.seed());
+
+        long[] overlapNanos = new long[PROBES];
+        long[] seatNanos = new long[PROBES];
+        int booked = 0;
+        for (int i = 0; i < PROBES; i++) {
+            Showtime showtime = readOnly.execute(status -> showtimeRepository
+                    .findById(dataset.firstShowtimeId() + random.nextInt(dataset.showtimes())).orElseThrow());
+            int seat = 1 + random.nextInt(VOLUMES.seatsPerShowtime());
+
+            long started = System.nanoTime();
+            List<Showtime> overlapping = readOnly.execute(status -> showtimeRepository.findOverlappingShowtimes(
+                    showtime.getTheater(), showtime.getStartTime(), showtime.getEndTime(),
+                    showtime.getStartTime().minus(MAX_DURATION)));
+            overlapNanos[i] = System.nanoTime() - started;
+            // Each theater's schedule is back to back, so the slot overlaps only itself
+            assertEquals(List.of(showtime.getId()), overlapping.stream().map(Showtime::getId).toList());
+
+            started = System.nanoTime();
+            if (Boolean.TRUE.equals(readOnly.execute(status ->
+                    bookingRepository.existsByShowtimeAndSeatNumber(showtime, seat)))) {
+                booked++;
+            }
+            seatNanos[i] = System.nanoTime() - started;
+        }
+
+        System.out.printf("%,d probes against %s%n", PROBES, dataset);
+        System.out.printf("  findOverlappingShowtimes       %s%n", latencies(overlapNanos));
+        System.out.printf("  existsByShowtimeAndSeatNumber  %s, %d of the seats taken%n", latencies(seatNanos), booked);
+
+        Showtime sample = showtimeRepository.findById(dataset.firstShowtimeId() + dataset.showtimes() / 2).orElseThrow();
+        explain("Overlap check", "SELECT id FROM showtimes WHERE theater = ? AND start_time < ? AND end_time > ? "
+                        + "AND start_time > ?", sample.getTheater(), sample.getEndTime().toOffsetDateTime(),
+                sample.getStartTime().toOffsetDateTime(), sample.getStartTime().minus(MAX_DURATION).toOffsetDateTime());
+        explain("Seat check", "SELECT id FROM bookings WHERE showtime_id = ? AND seat_number = ? FETCH FIRST 1 ROWS ONLY",
+                sample.getId(), 1);
+    }
+
+    private static long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private static void explain(String name, String sql, Object... args) {
+        boolean postgres = jdbcTemplate.execute((Connection connection) ->
+                connection.getMetaData().getDatabaseProductName().equals("PostgreSQL"));
+        System.out.printf("%s plan:%n", name);
+        jdbcTemplate.queryForList((postgres ? "EXPLAIN (ANALYZE, BUFFERS) " : "EXPLAIN ANALYZE ") + sql,
+                        String.class, args)
+                .forEach(line -> System.out.printf("  %s%n", line));
+    }
+
+    private static String latencies(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return String.format("p50 %7.3f ms, p99 %7.3f ms, max %7.3f ms",
+                percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6, sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+}
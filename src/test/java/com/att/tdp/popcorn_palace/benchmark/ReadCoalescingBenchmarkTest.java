@@ -0,0 +1,149 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.CatalogBatchRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.MovieDeletionJob;
+import com.att.tdp.popcorn_palace.service.MovieService;
+import com.att.tdp.popcorn_palace.service.ShowtimeService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Run with: mvn test -Pbenchmark -Dtest=ReadCoalescingBenchmarkTest
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        // A premiere page going live: nothing is in the second-level cache yet
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class ReadCoalescingBenchmarkTest {
+
+    private static final int THREADS = 64;
+    private static final int READS_PER_THREAD = 200;
+    private static final int MOVIES = 200;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MovieDeletionJob movieDeletionJob;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private CatalogBatchRepository catalogBatchRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        bookingRepository.deleteAllInBatch();
+        showtimeRepository.deleteAllInBatch();
+        movieRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void compareCoalescedAndDirectReads() throws Exception {
+        List<Movie> movies = new ArrayList<>();
+        for (int i = 0; i < MOVIES; i++) {
+            movies.add(new Movie(null, "Movie " + i, "Drama", 100 + i % 60, 7.0, 2000 + i % 25, null));
+        }
+        movies = movieRepository.saveAll(movies);
+        Long showtimeId = showtimeRepository.save(new Showtime(null, movies.get(0), "Theater 1",
+                ZonedDateTime.now().plusDays(1), ZonedDateTime.now().plusDays(1).plusHours(3), 12.0, null)).getId();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        System.out.printf("%d threads x %d reads, second-level cache off%n", THREADS, READS_PER_THREAD);
+        for (Duration microTtl : new Duration[]{null, Duration.ZERO, Duration.ofMillis(20)}) {
+            String label = microTtl == null ? "direct            " : "single-flight " + String.format("%4s", microTtl.toMillis() + "ms");
+            ShowtimeService showtimeService = new ShowtimeService(showtimeRepository, movieRepository,
+                    bookingRepository, catalogBatchRepository, transactionTemplate, Duration.ofHours(24),
+                    microTtl == null ? Duration.ZERO : microTtl);
+            MovieService movieService = new MovieService(movieRepository, showtimeRepository, bookingRepository,
+                    catalogBatchRepository, movieDeletionJob, showtimeService, microTtl == null ? Duration.ZERO : microTtl);
+
+            Result moviesResult = run(statistics, microTtl == null
+                    ? () -> movieRepository.findAll()
+                    : movieService::getAllMovies);
+            Result showtimeResult = run(statistics, microTtl == null
+                    ? () -> transactionTemplate.execute(status -> showtimeRepository.findById(showtimeId)
+                            .map(showtime -> showtime.getMovie().getTitle()))
+                    : () -> showtimeService.getShowtime(showtimeId));
+            System.out.printf("  %s /movies/all: %s   /showtimes/{id}: %s%n", label, moviesResult, showtimeResult);
+
+            if (microTtl != null && microTtl.isZero()) {
+                assertTrue(moviesResult.statements() < THREADS * READS_PER_THREAD,
+                        "Concurrent identical reads should share statements");
+            }
+        }
+    }
+
+    private Result run(Statistics statistics, Read read) throws Exception {
+        statistics.clear();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < READS_PER_THREAD; i++) {
+                    read.run();
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - begin;
+        executor.shutdown();
+        return new Result(THREADS * READS_PER_THREAD, elapsedNanos, statistics.getPrepareStatementCount());
+    }
+
+    @FunctionalInterface
+    private interface Read {
+        Object run();
+    }
+
+    private record Result(int reads, long elapsedNanos, long statements) {
+        @Override
+        public String toString() {
+            return String.format("%,7.0f reads/s, %,6d statements", reads / (elapsedNanos / 1_000_000_000.0), statements);
+        }
+    }
+}
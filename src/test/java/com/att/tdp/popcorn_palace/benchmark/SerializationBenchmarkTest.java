@@ -0,0 +1,144 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Run with: mvn test -Pbenchmark -Dtest=SerializationBenchmarkTest
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+class SerializationBenchmarkTest {
+
+    private static final int MOVIES = 500;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int ITERATIONS = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private List<Movie> movies;
+    private Showtime showtime;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        bookingRepository.deleteAllInBatch();
+        showtimeRepository.deleteAllInBatch();
+        movieRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void compareWireFormats() throws Exception {
+        movies = new ArrayList<>();
+        for (int i = 0; i < MOVIES; i++) {
+            movies.add(new Movie(null, "Movie " + i, "Genre " + (i % 12), 90 + i % 60, 5.0 + (i % 50) / 10.0, 1980 + i % 45, null));
+        }
+        movies = movieRepository.saveAll(movies);
+        showtime = new Showtime(null, movies.get(0), "Theater 1", ZonedDateTime.now().plusDays(1),
+                ZonedDateTime.now().plusDays(1).plusHours(3), 12.5, null);
+        showtime = showtimeRepository.save(showtime);
+
+        // Plain reflective Jackson, i.e. the JSON path before Blackbird was registered
+        ObjectMapper reflective = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("json (reflective)", reflective);
+        mappers.put("json (blackbird) ", objectMapper);
+        mappers.put("cbor             ", cborConverter.getObjectMapper());
+        mappers.put("smile            ", smileConverter.getObjectMapper());
+
+        Map<String, MediaType> wireTypes = new LinkedHashMap<>();
+        wireTypes.put("json ", MediaType.APPLICATION_JSON);
+        wireTypes.put("cbor ", MediaType.APPLICATION_CBOR);
+        wireTypes.put("smile", MediaType.parseMediaType("application/x-jackson-smile"));
+
+        System.out.println("Bytes on the wire");
+        for (Map.Entry<String, MediaType> wireType : wireTypes.entrySet()) {
+            System.out.printf("  %s GET /movies/all (%d movies): %,8d B   GET /showtimes/{id}: %,5d B%n",
+                    wireType.getKey(), MOVIES,
+                    responseSize("/movies/all", wireType.getValue()),
+                    responseSize("/showtimes/" + showtime.getId(), wireType.getValue()));
+        }
+
+        System.out.println("Serialization time");
+        for (Map.Entry<String, ObjectMapper> mapper : mappers.entrySet()) {
+            double listNanos = nanosPerOp(mapper.getValue(), movies);
+            double showtimeNanos = nanosPerOp(mapper.getValue(), showtime);
+            System.out.printf("  %s /movies/all: %,10.0f ns/op   /showtimes/{id}: %,7.0f ns/op%n",
+                    mapper.getKey(), listNanos, showtimeNanos);
+        }
+
+        assertTrue(responseSize("/movies/all", MediaType.parseMediaType("application/x-jackson-smile"))
+                < responseSize("/movies/all", MediaType.APPLICATION_JSON), "Smile should be smaller than JSON");
+    }
+
+    private int responseSize(String uri, MediaType mediaType) throws Exception {
+        return mockMvc.perform(get(uri).accept(mediaType))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray().length;
+    }
+
+    private static double nanosPerOp(ObjectMapper mapper, Object value) throws Exception {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += mapper.writeValueAsBytes(value).length;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += mapper.writeValueAsBytes(value).length;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 0) {
+            throw new IllegalStateException("Nothing was serialized");
+        }
+        return (double) elapsed / ITERATIONS;
+    }
+}
@@ -0,0 +1,189 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.att.tdp.popcorn_palace.config.SqlObserverConfig;
+import com.att.tdp.popcorn_palace.observability.ObservedDataSource;
+import com.att.tdp.popcorn_palace.observability.SqlObserver;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Run with: mvn test -Pbenchmark -Dtest=SqlLoggingBenchmarkTest
+@Tag("benchmark")
+class SqlLoggingBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int STATEMENTS_PER_THREAD = 20_000;
+    private static final String SQL = "select s1_0.id,s1_0.end_time,s1_0.movie_id,s1_0.price,s1_0.start_time,"
+            + "s1_0.theater,s1_0.version from showtimes s1_0 where s1_0.id=?";
+
+    @Test
+    void compareShowSqlWithSampledObserver() throws Exception {
+        SqlStatementLogger showSql = new SqlStatementLogger(true, false, false, 0);
+        SqlObserver sampled = new SqlObserver(new SimpleMeterRegistry(), 0.1, 5, 10_000);
+        SqlObserver everything = new SqlObserver(new SimpleMeterRegistry(), 1.0, 5, 10_000);
+
+        // show-sql writes to stdout, which in a container ends up in a log file
+        Path log = Files.createTempFile("show-sql", ".log");
+        PrintStream stdout = System.out;
+        double showSqlNanos;
+        try (PrintStream file = new PrintStream(new FileOutputStream(log.toFile()), true)) {
+            System.setOut(file);
+            run(() -> showSql.logStatement(SQL));
+            showSqlNanos = run(() -> showSql.logStatement(SQL));
+        } finally {
+            System.setOut(stdout);
+            Files.delete(log);
+        }
+        run(() -> observe(sampled));
+        double sampledNanos = drainingWhile(sampled, () -> run(() -> observe(sampled)));
+        run(() -> observe(everything));
+        double everythingNanos = drainingWhile(everything, () -> run(() -> observe(everything)));
+
+        System.out.printf("Cost per statement, %d threads x %,d statements, including the background drain%n",
+                THREADS, STATEMENTS_PER_THREAD);
+        System.out.printf("  show-sql to stdout    : %,8.0f ns%n", showSqlNanos);
+        System.out.printf("  observer, 10%% sampled : %,8.0f ns%n", sampledNanos);
+        System.out.printf("  observer, all sampled : %,8.0f ns%n", everythingNanos);
+
+        assertTrue(sampledNanos < showSqlNanos, "Sampling off the calling thread should be cheaper than show-sql");
+    }
+
+    @Test
+    void measureObservedDataSourceInAndOutsideRequests() throws Exception {
+        // The application's meter setup: the observation handler Spring Boot registers, and the filter
+        // keeping the jdbc observations out of the meters. Spans are not exported here.
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+        meters.config().meterFilter(new SqlObserverConfig().jdbcObservationMeterFilter());
+        ObservationRegistry observations = ObservationRegistry.create();
+        observations.observationConfig().observationHandler(new DefaultMeterObservationHandler(meters));
+        SqlObserver observer = new SqlObserver(meters, 0.1, 5, 10_000);
+        DataSource dataSource = new ObservedDataSource(stubDataSource(), observer, observations);
+
+        // Proxies and observations take a few rounds to warm up
+        for (int i = 0; i < 3; i++) {
+            run(() -> execute(dataSource), null);
+            run(() -> execute(dataSource), observations);
+        }
+        double outsideNanos = drainingWhile(observer, () -> run(() -> execute(dataSource), null));
+        double insideNanos = drainingWhile(observer, () -> run(() -> execute(dataSource), observations));
+
+        System.out.printf("Cost per statement through ObservedDataSource, observer 10%% sampled, "
+                + "against a driver that does nothing%n");
+        System.out.printf("  outside an observation : %,8.0f ns%n", outsideNanos);
+        System.out.printf("  inside a request       : %,8.0f ns%n", insideNanos);
+
+        assertTrue(meters.find("jdbc.query").meter() == null, "The filter keeps jdbc.query out of the meters");
+    }
+
+    // Checkout, prepare, execute and close, as Hibernate does for a statement outside a transaction
+    private static void execute(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SQL)) {
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static DataSource stubDataSource() {
+        PreparedStatement statement = stub(PreparedStatement.class, 1);
+        Connection connection = stub(Connection.class, statement);
+        return stub(DataSource.class, connection);
+    }
+
+    // Answers the calls execute makes: its one result for getConnection, prepareStatement and
+    // executeUpdate, and nothing for close
+    private static <T> T stub(Class<T> type, Object result) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> method.getName().equals("close") ? null : result));
+    }
+
+    // What ObservedDataSource does around a statement, with a fixed duration in place of the query
+    private static void observe(SqlObserver observer) {
+        if (observer.onStatement(SQL)) {
+            observer.record(SQL, 250_000, 1);
+        }
+    }
+
+    // The scheduled drain, running as often as the queue needs to keep up
+    private static double drainingWhile(SqlObserver observer, Measurement measurement) throws Exception {
+        Thread drainer = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                observer.drain();
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        drainer.start();
+        try {
+            return measurement.run();
+        } finally {
+            drainer.interrupt();
+            drainer.join();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Measurement {
+        double run() throws Exception;
+    }
+
+    private static double run(Runnable statement) throws Exception {
+        return run(statement, null);
+    }
+
+    // With a registry, each thread runs its statements inside an observation, as a request thread does
+    private static double run(Runnable statement, ObservationRegistry request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                Observation observation = request == null ? Observation.NOOP
+                        : Observation.start("benchmark.request", request);
+                try (Observation.Scope scope = observation.openScope()) {
+                    for (int i = 0; i < STATEMENTS_PER_THREAD; i++) {
+                        statement.run();
+                    }
+                } finally {
+                    observation.stop();
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - begin;
+        executor.shutdown();
+        return (double) elapsedNanos / ((long) THREADS * STATEMENTS_PER_THREAD);
+    }
+}
@@ -0,0 +1,164 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.att.tdp.popcorn_palace.PopcornPalaceApplication;
+import com.att.tdp.popcorn_palace.benchmark.load.HttpLoad;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Time from launching a JVM to its first answered request and to its first 201 on POST /bookings, the
+// moment a scaled-out instance is useful during an on-sale. Each variant starts fresh JVMs on H2.
+// Without a fast-start build only the plain and the lazy start are measured, on the test classpath;
+// after `mvn -Pfast-start package -DskipTests` the AOT and CDS variants run off target/fast-start.
+// Run with: mvn test -Pbenchmark -Dtest=StartupBenchmarkTest
+@Tag("benchmark")
+class StartupBenchmarkTest {
+
+    private static final int RUNS = Integer.getInteger("startup.runs", 3);
+    private static final Duration TIMEOUT = Duration.ofMinutes(3);
+    private static final Path FAST_START = Path.of("target", "fast-start");
+
+    @Test
+    void timeToFirstBooking() throws Exception {
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        List<String> classpath;
+        List<String> arguments = new ArrayList<>();
+        Path jar = fastStartJar();
+        if (jar == null) {
+            System.out.println("No fast-start build in target/fast-start, measuring the plain and lazy starts only");
+            // The test classpath, and with it the test application.yaml on H2
+            classpath = List.of(System.getProperty("java.class.path"));
+        } else {
+            // Appended after the jar, so the CDS archive's class path still matches
+            classpath = List.of(jar.toString(), Path.of(org.h2.Driver.class.getProtectionDomain()
+                    .getCodeSource().getLocation().toURI()).toString());
+            arguments.addAll(List.of(
+                    "--spring.datasource.url=jdbc:h2:mem:db;MODE=PostgreSQL;DB_CLOSE_ON_EXIT=FALSE",
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--popcorn-palace.archive.enabled=false",
+                    "--popcorn-palace.partitioning.enabled=false"));
+        }
+        variants.put("JVM", List.of());
+        variants.put("JVM, lazy", List.of("-Dspring.profiles.active=lazy"));
+        if (jar != null) {
+            String archive = "-XX:SharedArchiveFile=" + FAST_START.resolve("application.jsa");
+            variants.put("AOT", List.of("-Dspring.aot.enabled=true"));
+            variants.put("AOT + CDS", List.of("-Dspring.aot.enabled=true", archive));
+            variants.put("AOT + CDS, lazy", List.of("-Dspring.aot.enabled=true", archive,
+                    "-Dspring.profiles.active=lazy"));
+        }
+
+        System.out.printf("%-18s %22s %22s%n", "Variant", "First response (ms)", "First booking (ms)");
+        Map<String, Long> firstBooking = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            long[] response = new long[RUNS];
+            long[] booking = new long[RUNS];
+            for (int run = 0; run < RUNS; run++) {
+                long[] millis = start(classpath, variant.getValue(), arguments);
+                response[run] = millis[0];
+                booking[run] = millis[1];
+            }
+            firstBooking.put(variant.getKey(), median(booking));
+            System.out.printf("%-18s %22d %22d%n", variant.getKey(), median(response), median(booking));
+        }
+
+        if (jar != null) {
+            assertTrue(firstBooking.get("AOT + CDS") < firstBooking.get("JVM"),
+                    "AOT and CDS should reach the first booking sooner than a plain start");
+        }
+    }
+
+    // Launches the application and books a seat as soon as it answers; returns the milliseconds to the
+    // first response and to the first booking
+    private static long[] start(List<String> classpath, List<String> jvmOptions, List<String> arguments)
+            throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xshare:auto", "-Xlog:cds=off", "-cp", String.join(File.pathSeparator, classpath)));
+        command.addAll(jvmOptions);
+        command.add(PopcornPalaceApplication.class.getName());
+        command.addAll(arguments);
+        command.addAll(List.of("--server.port=" + port, "--spring.main.banner-mode=off", "--logging.level.root=WARN",
+                "--management.tracing.sampling.probability=0"));
+
+        Path log = Files.createTempFile("startup", ".log");
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            HttpLoad http = new HttpLoad(URI.create("http://localhost:" + port), 1);
+            long movieId = untilAnswered(process, () -> http.send(http.post("/movies",
+                    "{\"title\":\"Startup\",\"genre\":\"Drama\",\"duration\":120,\"rating\":7.5,\"releaseYear\":2024}"))
+                    .get("id").asLong());
+            long firstResponse = System.nanoTime() - launched;
+
+            ZonedDateTime showtimeStart = ZonedDateTime.now().plusDays(1);
+            long showtimeId = http.send(http.post("/showtimes", "{\"movieId\":" + movieId + ",\"price\":12.0,"
+                    + "\"theater\":\"Startup\",\"startTime\":\"" + showtimeStart.toOffsetDateTime() + "\","
+                    + "\"endTime\":\"" + showtimeStart.plusHours(3).toOffsetDateTime() + "\"}")).get("id").asLong();
+            http.send(http.post("/bookings", "{\"showtimeId\":" + showtimeId + ",\"seatNumber\":1,\"userId\":\"first\"}"));
+            long firstBooking = System.nanoTime() - launched;
+            return new long[] {firstResponse / 1_000_000, firstBooking / 1_000_000};
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed with " + jvmOptions + ":\n" + Files.readString(log), e);
+        } finally {
+            process.destroy();
+            process.waitFor();
+            Files.delete(log);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        long send() throws Exception;
+    }
+
+    private static long untilAnswered(Process process, Call call) throws Exception {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (true) {
+            try {
+                return call.send();
+            } catch (IOException notListeningYet) {
+                if (!process.isAlive() || System.nanoTime() > deadline) {
+                    throw new IllegalStateException("The application did not start", notListeningYet);
+                }
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    private static Path fastStartJar() throws IOException {
+        if (!Files.isDirectory(FAST_START)) {
+            return null;
+        }
+        try (var files = Files.list(FAST_START)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jar")).findFirst().orElse(null);
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,437 @@
+package com.att.tdp.popcorn_palace.benchmark.data;
+
+import com.att.tdp.popcorn_palace.model.Sequences;
+import com.att.tdp.popcorn_palace.service.PartitionMaintenanceJob;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Bulk-loads a synthetic catalog of configurable size: movies, showtimes spread over theaters, and
+ * bookings. On PostgreSQL rows are streamed with {@code COPY ... FROM STDIN}, elsewhere (H2) with
+ * multi-row {@code INSERT}s. The data is skewed the way a real catalog is:
+ * <ul>
+ *   <li>movie popularity follows a Zipf distribution, and popular movies get more showtimes</li>
+ *   <li>each theater runs back-to-back showtimes, so no two of them overlap</li>
+ *   <li>bookings per showtime follow the movie's popularity, the time of day and the weekday, up to
+ *   the number of seats; a few showtimes sell out while most stay far from full</li>
+ *   <li>bookings per user follow a Zipf distribution too</li>
+ * </ul>
+ * Ids are a block reserved on each table's sequence, which is then moved past the block, so the
+ * application keeps allocating ids without collisions. Rows are appended to whatever is there.
+ */
+public final class DatasetGenerator {
+
+    private static final int ROWS_PER_INSERT = 500;
+    private static final int COPY_BUFFER_CHARS = 1 << 20;
+    private static final String[] GENRES = {"Drama", "Comedy", "Action", "Sci-Fi", "Horror", "Animation",
+            "Thriller", "Romance", "Documentary", "Family"};
+
+    public record Volumes(int movies, int theaters, int showtimes, long bookings, int seatsPerShowtime, long seed) {
+    }
+
+    public record Dataset(long firstMovieId, int movies, long firstShowtimeId, int showtimes, long bookings,
+                          List<String> theaters, OffsetDateTime from, OffsetDateTime until, Duration elapsed) {
+
+        @Override
+        public String toString() {
+            return String.format("%,d movies, %,d showtimes in %d theaters from %s to %s, %,d bookings, loaded in %s",
+                    movies, showtimes, theaters.size(), from.toLocalDate(), until.toLocalDate(), bookings, elapsed);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final boolean postgres;
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = jdbcTemplate.getDataSource();
+        this.postgres = Boolean.TRUE.equals(jdbcTemplate.execute((Connection connection) ->
+                connection.getMetaData().getDatabaseProductName().equals("PostgreSQL")));
+    }
+
+    public Dataset generate(Volumes volumes, OffsetDateTime from) throws SQLException {
+        long started = System.nanoTime();
+        Random random = new Random(volumes.seed());
+
+        long firstMovieId = reserveIds("movies_seq", volumes.movies());
+        long firstShowtimeId = reserveIds("showtimes_seq", volumes.showtimes());
+        // Theater names carry the run, so generated schedules never overlap earlier rows
+        String run = Long.toString(firstShowtimeId, 36);
+        List<String> theaters = new ArrayList<>();
+        for (int t = 0; t < volumes.theaters(); t++) {
+            theaters.add("Theater " + run + "-" + t);
+        }
+
+        int[] durations = new int[volumes.movies()];
+        try (RowSink movies = sink("movies", "id, title, genre, duration, rating, release_year, version")) {
+            for (int m = 0; m < volumes.movies(); m++) {
+                durations[m] = 80 + random.nextInt(101);
+                movies.row(firstMovieId + m, "Movie " + run + "-" + m, GENRES[random.nextInt(GENRES.length)],
+                        durations[m], Math.round((1 + random.nextDouble() * 9) * 10) / 10.0,
+                        2026 - (int) (60 * Math.pow(random.nextDouble(), 3)), 0);
+            }
+        }
+        progress("movies", volumes.movies(), started);
+
+        // Showtimes, theater after theater; what the bookings need is kept per showtime
+        Zipf moviePopularity = new Zipf(volumes.movies(), 0.8);
+        long[] starts = new long[volumes.showtimes()];
+        float[] demand = new float[volumes.showtimes()];
+        long until = schedule(volumes, from, random, moviePopularity, durations, starts);
+        createPartitions(from, Instant.ofEpochSecond(until).atOffset(ZoneOffset.UTC));
+        int perTheater = volumes.showtimes() / volumes.theaters();
+        int index = 0;
+        try (RowSink showtimes = sink("showtimes", "id, movie_id, theater, start_time, end_time, price, version")) {
+            Random noise = new Random(volumes.seed() + 1);
+            for (int t = 0; t < volumes.theaters(); t++) {
+                int count = perTheater + (t < volumes.showtimes() % volumes.theaters() ? 1 : 0);
+                for (int i = 0; i < count; i++, index++) {
+                    int movie = (int) (starts[index] >>> 40);
+                    long start = starts[index] & 0xFF_FFFF_FFFFL;
+                    long end = start + 60L * (durations[movie] + 20);
+                    OffsetDateTime startTime = Instant.ofEpochSecond(start).atOffset(ZoneOffset.UTC);
+                    demand[index] = (float) (Math.pow(moviePopularity.weight(movie), 0.5)
+                            * timeOfDayFactor(startTime) * (0.5 + noise.nextDouble()));
+                    showtimes.row(firstShowtimeId + index, firstMovieId + movie, theaters.get(t), startTime,
+                            Instant.ofEpochSecond(end).atOffset(ZoneOffset.UTC),
+                            priceAt(startTime), 0);
+                    starts[index] = start;
+                }
+            }
+        }
+        progress("showtimes", volumes.showtimes(), started);
+
+        long bookings = insertBookings(volumes, random, firstShowtimeId, starts, demand, started);
+        analyze();
+        return new Dataset(firstMovieId, volumes.movies(), firstShowtimeId, volumes.showtimes(), bookings,
+                List.copyOf(theaters), from, Instant.ofEpochSecond(until).atOffset(ZoneOffset.UTC),
+                Duration.ofNanos(System.nanoTime() - started).withNanos(0));
+    }
+
+    // Packs each theater's day with showtimes of Zipf-picked movies, 15 to 45 minutes apart. The
+    // movie index goes in the upper bits of each start, so one array serves both. Returns when the
+    // last showtime ends.
+    private static long schedule(Volumes volumes, OffsetDateTime from, Random random, Zipf moviePopularity,
+                                 int[] durations, long[] starts) {
+        int perTheater = volumes.showtimes() / volumes.theaters();
+        long last = from.toEpochSecond();
+        int index = 0;
+        for (int t = 0; t < volumes.theaters(); t++) {
+            int count = perTheater + (t < volumes.showtimes() % volumes.theaters() ? 1 : 0);
+            long start = from.toEpochSecond() + 60L * 5 * random.nextInt(12);
+            for (int i = 0; i < count; i++, index++) {
+                int movie = moviePopularity.sample(random);
+                starts[index] = ((long) movie << 40) | start;
+                long end = start + 60L * (durations[movie] + 20);
+                last = Math.max(last, end);
+                start = end + 60L * 5 * (3 + random.nextInt(7));
+            }
+        }
+        return last;
+    }
+
+    private long insertBookings(Volumes volumes, Random random, long firstShowtimeId, long[] starts, float[] demand,
+                                long started) throws SQLException {
+        int seats = volumes.seatsPerShowtime();
+        double scale = demandScale(demand, seats, Math.min(volumes.bookings(), (long) seats * demand.length));
+        long total = 0;
+        int[] counts = new int[demand.length];
+        for (int i = 0; i < demand.length; i++) {
+            double expected = Math.min(seats, scale * demand[i]);
+            counts[i] = (int) expected + (random.nextDouble() < expected - (int) expected ? 1 : 0);
+            total += counts[i];
+        }
+
+        // Every showtime fills its seats in the same order of preference
+        int[] seatOrder = new int[seats];
+        for (int s = 0; s < seats; s++) {
+            seatOrder[s] = s + 1;
+        }
+        for (int s = seats - 1; s > 0; s--) {
+            int other = random.nextInt(s + 1);
+            int seat = seatOrder[s];
+            seatOrder[s] = seatOrder[other];
+            seatOrder[other] = seat;
+        }
+
+        Zipf users = new Zipf((int) Math.max(1_000, Math.min(total / 20, 5_000_000)), 0.9);
+        long firstBookingId = reserveIds("bookings_seq", total);
+        long written = 0;
+        long reportEvery = Math.max(1, total / 10);
+        try (RowSink bookings = sink("bookings", "id, showtime_id, showtime_start, seat_number, user_id, version")) {
+            for (int i = 0; i < counts.length; i++) {
+                OffsetDateTime start = Instant.ofEpochSecond(starts[i]).atOffset(ZoneOffset.UTC);
+                for (int s = 0; s < counts[i]; s++) {
+                    bookings.row(firstBookingId + written, firstShowtimeId + i, start, seatOrder[s],
+                            "user" + users.sample(random), 0);
+                    if (++written % reportEvery == 0) {
+                        progress("bookings", written, started);
+                    }
+                }
+            }
+        }
+        return written;
+    }
+
+    // The factor that turns each showtime's demand into bookings, capped at its seats, so that the
+    // total comes out at the requested number
+    private static double demandScale(float[] demand, int seats, long target) {
+        double low = 0;
+        double high = 1;
+        while (booked(demand, seats, high) < target && high < 1e12) {
+            high *= 2;
+        }
+        for (int i = 0; i < 60; i++) {
+            double middle = (low + high) / 2;
+            if (booked(demand, seats, middle) < target) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return high;
+    }
+
+    private static double booked(float[] demand, int seats, double scale) {
+        double total = 0;
+        for (float d : demand) {
+            total += Math.min(seats, scale * d);
+        }
+        return total;
+    }
+
+    private static double timeOfDayFactor(OffsetDateTime start) {
+        int hour = start.getHour();
+        double factor = hour < 12 ? 0.3 : hour < 17 ? 0.6 : hour < 22 ? 1.0 : 0.5;
+        DayOfWeek day = start.getDayOfWeek();
+        return day == DayOfWeek.FRIDAY || day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY ? factor * 1.4 : factor;
+    }
+
+    private static double priceAt(OffsetDateTime start) {
+        return start.getHour() >= 17 ? 14.5 : 9.5;
+    }
+
+    private long reserveIds(String sequence, long count) {
+        Long first = jdbcTemplate.queryForObject(postgres
+                ? "SELECT nextval('" + sequence + "')" : "SELECT NEXT VALUE FOR " + sequence, Long.class);
+        // Hibernate's pooled optimizer hands out the ids up to the value it reads from the sequence
+        long next = first + count + Sequences.ALLOCATION_SIZE;
+        if (postgres) {
+            jdbcTemplate.queryForObject("SELECT setval('" + sequence + "', " + next + ", false)", Long.class);
+        } else {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + next);
+        }
+        return first;
+    }
+
+    // PostgreSQL only: rows past the pre-created months would land in the default partitions
+    private void createPartitions(OffsetDateTime from, OffsetDateTime until) {
+        if (!postgres) {
+            return;
+        }
+        PartitionMaintenanceJob partitions = new PartitionMaintenanceJob(jdbcTemplate,
+                new TransactionTemplate(), 0, Integer.MAX_VALUE, true);
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(until)); month = month.plusMonths(1)) {
+            partitions.createPartitions(month);
+        }
+    }
+
+    private void analyze() {
+        if (postgres) {
+            jdbcTemplate.execute("ANALYZE movies");
+            jdbcTemplate.execute("ANALYZE showtimes");
+            jdbcTemplate.execute("ANALYZE bookings");
+        } else {
+            jdbcTemplate.execute("ANALYZE");
+        }
+    }
+
+    private static void progress(String table, long rows, long started) {
+        System.out.printf("  %-9s %,14d rows after %,d s%n", table, rows, (System.nanoTime() - started) / 1_000_000_000L);
+    }
+
+    private RowSink sink(String table, String columns) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        try {
+            return postgres ? new CopySink(connection, table, columns) : new InsertSink(connection, table, columns);
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    private interface RowSink extends AutoCloseable {
+
+        void row(Object... values) throws SQLException;
+
+        @Override
+        void close() throws SQLException;
+    }
+
+    // COPY's text format: tab-separated, \N for null, backslash escapes
+    private static final class CopySink implements RowSink {
+
+        private final Connection connection;
+        private final CopyIn copy;
+        private final StringBuilder buffer = new StringBuilder(COPY_BUFFER_CHARS + 1024);
+
+        CopySink(Connection connection, String table, String columns) throws SQLException {
+            this.connection = connection;
+            this.copy = connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("COPY " + table + " (" + columns + ") FROM STDIN");
+        }
+
+        @Override
+        public void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append('\t');
+                }
+                if (values[i] == null) {
+                    buffer.append("\\N");
+                } else if (values[i] instanceof String text) {
+                    for (int c = 0; c < text.length(); c++) {
+                        char ch = text.charAt(c);
+                        switch (ch) {
+                            case '\\' -> buffer.append("\\\\");
+                            case '\t' -> buffer.append("\\t");
+                            case '\n' -> buffer.append("\\n");
+                            case '\r' -> buffer.append("\\r");
+                            default -> buffer.append(ch);
+                        }
+                    }
+                } else {
+                    buffer.append(values[i]);
+                }
+            }
+            buffer.append('\n');
+            if (buffer.length() >= COPY_BUFFER_CHARS) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copy.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (copy.isActive()) {
+                    flush();
+                    copy.endCopy();
+                }
+            } finally {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+                connection.close();
+            }
+        }
+    }
+
+    // INSERT INTO ... VALUES (...), (...), ... with ROWS_PER_INSERT rows a statement
+    private static final class InsertSink implements RowSink {
+
+        private final Connection connection;
+        private final String table;
+        private final String columns;
+        private final int width;
+        private final PreparedStatement full;
+        private final List<Object[]> pending = new ArrayList<>(ROWS_PER_INSERT);
+
+        InsertSink(Connection connection, String table, String columns) throws SQLException {
+            this.connection = connection;
+            this.table = table;
+            this.columns = columns;
+            this.width = columns.split(",").length;
+            this.full = connection.prepareStatement(insert(ROWS_PER_INSERT));
+        }
+
+        @Override
+        public void row(Object... values) throws SQLException {
+            pending.add(values);
+            if (pending.size() == ROWS_PER_INSERT) {
+                execute(full);
+            }
+        }
+
+        private String insert(int rows) {
+            String row = "(" + String.join(", ", Arrays.stream(new String[width]).map(column -> "?").toList()) + ")";
+            return "INSERT INTO " + table + " (" + columns + ") VALUES "
+                    + String.join(", ", Arrays.stream(new String[rows]).map(r -> row).toList());
+        }
+
+        private void execute(PreparedStatement statement) throws SQLException {
+            int parameter = 1;
+            for (Object[] values : pending) {
+                for (Object value : values) {
+                    statement.setObject(parameter++, value);
+                }
+            }
+            statement.executeUpdate();
+            pending.clear();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try (Statement ignored = full) {
+                if (!pending.isEmpty()) {
+                    try (PreparedStatement last = connection.prepareStatement(insert(pending.size()))) {
+                        execute(last);
+                    }
+                }
+            } finally {
+                connection.close();
+            }
+        }
+    }
+
+    // Index i drawn with probability proportional to 1 / (i + 1)^exponent
+    private static final class Zipf {
+
+        private final double[] cumulative;
+        private final double exponent;
+
+        Zipf(int size, double exponent) {
+            this.exponent = exponent;
+            this.cumulative = new double[size];
+            double total = 0;
+            for (int i = 0; i < size; i++) {
+                total += weight(i);
+                cumulative[i] = total;
+            }
+        }
+
+        double weight(int index) {
+            return 1 / Math.pow(index + 1, exponent);
+        }
+
+        int sample(Random random) {
+            int found = Arrays.binarySearch(cumulative, random.nextDouble() * cumulative[cumulative.length - 1]);
+            return Math.min(found >= 0 ? found : -found - 1, cumulative.length - 1);
+        }
+    }
+}
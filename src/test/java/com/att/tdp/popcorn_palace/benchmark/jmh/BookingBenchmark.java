@@ -0,0 +1,135 @@
+package com.att.tdp.popcorn_palace.benchmark.jmh;
+
+import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.exception.booking.SeatAlreadyBookedException;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.BookingService;
+import com.att.tdp.popcorn_palace.service.outbox.BookingOutbox;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@code BookingService.createBooking} on three workloads:
+ * <ul>
+ *   <li>{@code uncontended}: one thread booking the next free seat of one showtime</li>
+ *   <li>{@code sameSeatStampede}: four threads asking for the same seat; all but the first booking of
+ *   each iteration are rejected, so this measures the conflict path</li>
+ *   <li>{@code manyShowtimeSpread}: the next free seat of a random one of 1,000 showtimes</li>
+ * </ul>
+ * With {@code backend=h2} the calls go through the application's proxied bean (retry, transaction,
+ * metrics) against H2; with {@code backend=stub} through a plain instance over {@link InMemoryRepositories}.
+ */
+@State(Scope.Benchmark)
+// Spring, Hibernate and H2 take a while to be compiled, more so on few cores
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class BookingBenchmark {
+
+    private static final int SPREAD_SHOWTIMES = 1_000;
+
+    @Param({"stub", "h2"})
+    public String backend;
+
+    private ConfigurableApplicationContext context;
+    private InMemoryRepositories repositories;
+    private BookingService bookingService;
+    private final List<Long> showtimeIds = new ArrayList<>();
+    private AtomicIntegerArray nextSeats;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UnaryOperator<Movie> saveMovie;
+        UnaryOperator<Showtime> saveShowtime;
+        if (backend.equals("h2")) {
+            context = H2Application.start();
+            saveMovie = context.getBean(MovieRepository.class)::save;
+            saveShowtime = context.getBean(ShowtimeRepository.class)::save;
+            bookingService = context.getBean(BookingService.class);
+        } else {
+            repositories = new InMemoryRepositories();
+            saveMovie = repositories::addMovie;
+            saveShowtime = repositories::addShowtime;
+            bookingService = new BookingService(repositories.bookingRepository(), repositories.showtimeRepository(),
+                    new BookingOutbox(repositories.outboxEventRepository(), new ObjectMapper()), null);
+        }
+
+        Movie movie = saveMovie.apply(new Movie(null, "Benchmark Movie", "Drama", 120, 7.0, 2024, null));
+        ZonedDateTime start = ZonedDateTime.now().plusDays(30);
+        for (int i = 0; i < SPREAD_SHOWTIMES; i++) {
+            showtimeIds.add(saveShowtime.apply(
+                    new Showtime(null, movie, "Theater " + i, start, start.plusHours(3), 10.0, null)).getId());
+        }
+        nextSeats = new AtomicIntegerArray(SPREAD_SHOWTIMES);
+    }
+
+    // Bookings from one iteration would otherwise make the next one's seats taken
+    @TearDown(Level.Iteration)
+    public void deleteBookings() {
+        if (context != null) {
+            H2Application.deleteBookings(context);
+        } else {
+            repositories.clearBookings();
+        }
+        nextSeats = new AtomicIntegerArray(SPREAD_SHOWTIMES);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public Object uncontended() {
+        return book(0, nextSeats.incrementAndGet(0));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object sameSeatStampede() {
+        return book(0, 1);
+    }
+
+    @Benchmark
+    public Object manyShowtimeSpread() {
+        int showtime = ThreadLocalRandom.current().nextInt(SPREAD_SHOWTIMES);
+        return book(showtime, nextSeats.incrementAndGet(showtime));
+    }
+
+    private Object book(int showtime, int seatNumber) {
+        try {
+            return bookingService.createBooking(new BookingDTO(showtimeIds.get(showtime), seatNumber, "user123"));
+        } catch (SeatAlreadyBookedException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.att.tdp.popcorn_palace.benchmark.jmh;
+
+import com.att.tdp.popcorn_palace.PopcornPalaceApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// The application on the test profile's in-memory H2 database, started once per benchmark fork
+final class H2Application {
+
+    private H2Application() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(PopcornPalaceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        // Every rejected booking of the stampede would otherwise log the unique violation
+                        "logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=OFF",
+                        // The production rate rather than the tests' 1.0
+                        "management.tracing.sampling.probability=0.1")
+                .run();
+    }
+
+    static void deleteBookings(ConfigurableApplicationContext context) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM booking_outbox");
+        jdbcTemplate.update("DELETE FROM bookings");
+    }
+}
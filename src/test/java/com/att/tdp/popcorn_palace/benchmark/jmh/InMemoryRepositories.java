@@ -0,0 +1,143 @@
+package com.att.tdp.popcorn_palace.benchmark.jmh;
+
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.OutboxEvent;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.OutboxEventRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Just enough of the Spring Data repositories for the services' hot paths, kept in memory, so a
+ * benchmark can tell the services' own cost from the database's. Seats are unique per showtime like
+ * {@code uk_bookings_showtime_seat}, and overlapping showtimes are found through a map sorted by
+ * start, like the {@code (theater, start_time)} index. Any other repository method throws.
+ */
+final class InMemoryRepositories {
+
+    private final AtomicLong ids = new AtomicLong();
+    private final Map<Long, Movie> movies = new ConcurrentHashMap<>();
+    private final Map<Long, Showtime> showtimes = new ConcurrentHashMap<>();
+    private final Map<String, NavigableMap<ZonedDateTime, List<Showtime>>> showtimesByTheater = new ConcurrentHashMap<>();
+    private final Set<SeatKey> bookedSeats = ConcurrentHashMap.newKeySet();
+
+    private record SeatKey(Long showtimeId, Integer seatNumber) {
+    }
+
+    Movie addMovie(Movie movie) {
+        movie.setId(ids.incrementAndGet());
+        movies.put(movie.getId(), movie);
+        return movie;
+    }
+
+    Showtime addShowtime(Showtime showtime) {
+        showtime.setId(ids.incrementAndGet());
+        showtimes.put(showtime.getId(), showtime);
+        showtimesByTheater.computeIfAbsent(showtime.getTheater(), theater -> new ConcurrentSkipListMap<>())
+                .computeIfAbsent(showtime.getStartTime(), start -> new ArrayList<>())
+                .add(showtime);
+        return showtime;
+    }
+
+    void clearBookings() {
+        bookedSeats.clear();
+    }
+
+    MovieRepository movieRepository() {
+        return repository(MovieRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            case "findById" -> Optional.ofNullable(movies.get((Long) args[0]));
+            // Titles are not indexed here; the mapping benchmark adds new ones only
+            case "existsByTitle" -> false;
+            case "save" -> args[0];
+            default -> unsupported(method.getName());
+        });
+    }
+
+    ShowtimeRepository showtimeRepository() {
+        return repository(ShowtimeRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            case "findById" -> Optional.ofNullable(showtimes.get((Long) args[0]));
+            case "findOverlappingShowtimes" -> findOverlappingShowtimes(
+                    (String) args[0], (ZonedDateTime) args[1], (ZonedDateTime) args[2], (ZonedDateTime) args[3]);
+            case "save" -> args[0];
+            default -> unsupported(method.getName());
+        });
+    }
+
+    BookingRepository bookingRepository() {
+        return repository(BookingRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            case "existsByShowtimeAndSeatNumber" ->
+                    bookedSeats.contains(new SeatKey(((Showtime) args[0]).getId(), (Integer) args[1]));
+            case "saveAndFlush" -> book((Booking) args[0]);
+            default -> unsupported(method.getName());
+        });
+    }
+
+    OutboxEventRepository outboxEventRepository() {
+        return repository(OutboxEventRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            case "save" -> {
+                ((OutboxEvent) args[0]).setId(ids.incrementAndGet());
+                yield args[0];
+            }
+            default -> unsupported(method.getName());
+        });
+    }
+
+    private List<Showtime> findOverlappingShowtimes(String theater, ZonedDateTime startTime, ZonedDateTime endTime,
+                                                    ZonedDateTime earliestStart) {
+        List<Showtime> overlapping = new ArrayList<>();
+        NavigableMap<ZonedDateTime, List<Showtime>> byStart = showtimesByTheater.get(theater);
+        if (byStart == null) {
+            return overlapping;
+        }
+        for (List<Showtime> starting : byStart.subMap(earliestStart, false, endTime, false).values()) {
+            for (Showtime showtime : starting) {
+                if (showtime.getEndTime().isAfter(startTime)) {
+                    overlapping.add(showtime);
+                }
+            }
+        }
+        return overlapping;
+    }
+
+    private Booking book(Booking booking) {
+        if (!bookedSeats.add(new SeatKey(booking.getShowtime().getId(), booking.getSeatNumber()))) {
+            throw new DuplicateKeyException("uk_bookings_showtime_seat");
+        }
+        booking.setId(ids.incrementAndGet());
+        return booking;
+    }
+
+    private static Object unsupported(String method) {
+        throw new UnsupportedOperationException(method + " is not stubbed");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R repository(Class<R> type, InvocationHandler handler) {
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> type.getSimpleName() + " (in memory)";
+                };
+            }
+            return handler.invoke(proxy, method, args);
+        });
+    }
+}
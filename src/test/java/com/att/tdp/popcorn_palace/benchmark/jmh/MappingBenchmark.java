@@ -0,0 +1,109 @@
+package com.att.tdp.popcorn_palace.benchmark.jmh;
+
+import com.att.tdp.popcorn_palace.dto.MovieDTO;
+import com.att.tdp.popcorn_palace.dto.ShowtimeDTO;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.service.MovieService;
+import com.att.tdp.popcorn_palace.service.ShowtimeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The steps between a request body and the entity handed to the repository: JSON to DTO with the
+ * application's Jackson setup, bean validation of the DTO, and the services' DTO to entity mapping
+ * over {@link InMemoryRepositories}. {@code showtimeRequest} is the three in a row.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class MappingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private MovieService movieService;
+    private ShowtimeService showtimeService;
+    private String showtimeJson;
+    private ShowtimeDTO showtimeDTO;
+    private MovieDTO movieDTO;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        InMemoryRepositories repositories = new InMemoryRepositories();
+        Movie movie = repositories.addMovie(new Movie(null, "Inception", "Sci-Fi", 148, 8.8, 2010, null));
+        showtimeService = new ShowtimeService(repositories.showtimeRepository(), repositories.movieRepository(),
+                repositories.bookingRepository(), null, new TransactionTemplate(), Duration.ofHours(24),
+                Duration.ZERO);
+        movieService = new MovieService(repositories.movieRepository(), repositories.showtimeRepository(),
+                repositories.bookingRepository(), null, null, showtimeService, Duration.ZERO);
+
+        ZonedDateTime start = ZonedDateTime.now().plusDays(30);
+        showtimeJson = "{\"movieId\":" + movie.getId() + ",\"price\":12.5,\"theater\":\"Theater 1\","
+                + "\"startTime\":\"" + start.toOffsetDateTime() + "\","
+                + "\"endTime\":\"" + start.plusHours(3).toOffsetDateTime() + "\"}";
+        showtimeDTO = objectMapper.readValue(showtimeJson, ShowtimeDTO.class);
+        movieDTO = new MovieDTO("Interstellar", "Sci-Fi", 169, 8.6, 2014);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public ShowtimeDTO jsonToShowtimeDto() throws Exception {
+        return objectMapper.readValue(showtimeJson, ShowtimeDTO.class);
+    }
+
+    @Benchmark
+    public Object validateShowtimeDto() {
+        return validator.validate(showtimeDTO);
+    }
+
+    @Benchmark
+    public Object showtimeDtoToEntity() {
+        return showtimeService.addShowtime(showtimeDTO);
+    }
+
+    @Benchmark
+    public Object movieDtoToEntity() {
+        return movieService.addMovie(movieDTO);
+    }
+
+    @Benchmark
+    public Object showtimeRequest() throws Exception {
+        ShowtimeDTO dto = objectMapper.readValue(showtimeJson, ShowtimeDTO.class);
+        if (!validator.validate(dto).isEmpty()) {
+            throw new IllegalStateException("Benchmark request is invalid");
+        }
+        return showtimeService.addShowtime(dto);
+    }
+}
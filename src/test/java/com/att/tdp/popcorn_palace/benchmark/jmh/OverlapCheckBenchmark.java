@@ -0,0 +1,113 @@
+package com.att.tdp.popcorn_palace.benchmark.jmh;
+
+import com.att.tdp.popcorn_palace.dto.ShowtimeDTO;
+import com.att.tdp.popcorn_palace.exception.showtime.OverlappingShowtimeException;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.service.ShowtimeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The showtime overlap check, through {@code ShowtimeService.addShowtime} with a slot that collides
+ * with one showtime in the middle of a theater's schedule: the movie lookup, the overlap query and
+ * the rejection, with nothing written. The theater holds {@code showtimes} back-to-back showtimes.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class OverlapCheckBenchmark {
+
+    private static final String THEATER = "Theater 1";
+    private static final Duration SLOT = Duration.ofHours(3);
+
+    @Param({"stub", "h2"})
+    public String backend;
+
+    @Param({"10", "1000", "100000"})
+    public int showtimes;
+
+    private ConfigurableApplicationContext context;
+    private ShowtimeService showtimeService;
+    private ShowtimeDTO overlapping;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ZonedDateTime firstStart = ZonedDateTime.now().plusDays(30);
+        Movie movie = new Movie(null, "Benchmark Movie", "Drama", 120, 7.0, 2024, null);
+        if (backend.equals("h2")) {
+            context = H2Application.start();
+            movie = context.getBean(MovieRepository.class).save(movie);
+            insertShowtimes(context.getBean(JdbcTemplate.class), movie.getId(), firstStart);
+            showtimeService = context.getBean(ShowtimeService.class);
+        } else {
+            InMemoryRepositories repositories = new InMemoryRepositories();
+            movie = repositories.addMovie(movie);
+            for (int i = 0; i < showtimes; i++) {
+                ZonedDateTime start = firstStart.plus(SLOT.multipliedBy(i));
+                repositories.addShowtime(new Showtime(null, movie, THEATER, start, start.plus(SLOT), 10.0, null));
+            }
+            showtimeService = new ShowtimeService(repositories.showtimeRepository(), repositories.movieRepository(),
+                    repositories.bookingRepository(), null, new TransactionTemplate(), Duration.ofHours(24),
+                    Duration.ZERO);
+        }
+
+        ZonedDateTime middle = firstStart.plus(SLOT.multipliedBy(showtimes / 2)).plusHours(1);
+        overlapping = new ShowtimeDTO(movie.getId(), THEATER, middle, middle.plus(SLOT), 12.0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public Object rejectOverlap() {
+        try {
+            return showtimeService.addShowtime(overlapping);
+        } catch (OverlappingShowtimeException e) {
+            return e;
+        }
+    }
+
+    // Ids above the sequence's range; nothing in this benchmark inserts showtimes through Hibernate
+    private void insertShowtimes(JdbcTemplate jdbcTemplate, Long movieId, ZonedDateTime firstStart) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < showtimes; i++) {
+            ZonedDateTime start = firstStart.plus(SLOT.multipliedBy(i));
+            rows.add(new Object[]{1_000_000L + i, movieId, THEATER,
+                    start.toOffsetDateTime(), start.plus(SLOT).toOffsetDateTime(), 10.0});
+            if (rows.size() == 1_000 || i == showtimes - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO showtimes (id, movie_id, theater, start_time, end_time, price, "
+                        + "version) VALUES (?, ?, ?, ?, ?, ?, 0)", rows);
+                rows.clear();
+            }
+        }
+    }
+}
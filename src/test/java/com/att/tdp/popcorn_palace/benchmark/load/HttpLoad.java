@@ -0,0 +1,118 @@
+package com.att.tdp.popcorn_palace.benchmark.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+
+/**
+ * Sends a fixed number of requests to the application with at most {@code concurrency} in flight
+ * and collects a {@link LoadResult}: latency of each request, status codes, and failures by the
+ * {@code error} of the {@code ErrorResponse} body, or by exception when no response came back.
+ */
+public final class HttpLoad {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final URI baseUrl;
+    private final int concurrency;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public HttpLoad(URI baseUrl, int concurrency) {
+        this(baseUrl, concurrency, DEFAULT_TIMEOUT);
+    }
+
+    // The timeout covers connecting and the whole exchange; requests queued behind thousands of others
+    // need a longer one
+    public HttpLoad(URI baseUrl, int concurrency, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    public URI baseUrl() {
+        return baseUrl;
+    }
+
+    public HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUrl.resolve(path)).timeout(timeout).GET().build();
+    }
+
+    public HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    // One request outside any measurement, for seeding data
+    public JsonNode send(HttpRequest request) throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    // Requests are built up front, so the run itself only sends them
+    public LoadResult run(String name, int requests, IntFunction<HttpRequest> requestFor) throws InterruptedException {
+        HttpRequest[] built = new HttpRequest[requests];
+        for (int i = 0; i < requests; i++) {
+            built[i] = requestFor.apply(i);
+        }
+
+        LoadResult result = new LoadResult(name, requests);
+        Semaphore inFlight = new Semaphore(concurrency);
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[requests];
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            long sent = System.nanoTime();
+            responses[i] = client.sendAsync(built[i], HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, failure) -> {
+                        long latency = System.nanoTime() - sent;
+                        inFlight.release();
+                        if (failure != null) {
+                            result.record(latency, 0, exceptionName(failure));
+                        } else {
+                            result.record(latency, response.statusCode(),
+                                    response.statusCode() >= 400 ? errorOf(response.body()) : null);
+                        }
+                    });
+        }
+        CompletableFuture.allOf(responses).exceptionally(failure -> null).join();
+        result.finish(System.nanoTime() - start);
+        return result;
+    }
+
+    private String errorOf(String body) {
+        try {
+            JsonNode error = objectMapper.readTree(body).get("error");
+            return error == null ? "(no error field)" : error.asText();
+        } catch (Exception e) {
+            return "(not an ErrorResponse)";
+        }
+    }
+
+    private static String exceptionName(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        return cause.getClass().getSimpleName();
+    }
+}
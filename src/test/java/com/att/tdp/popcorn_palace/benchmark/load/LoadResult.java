@@ -0,0 +1,71 @@
+package com.att.tdp.popcorn_palace.benchmark.load;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * What one {@link HttpLoad#run} saw. Latencies are kept whole, so the percentiles are exact.
+ */
+public final class LoadResult {
+
+    private final String name;
+    private final long[] latencies;
+    private final Map<Integer, Integer> statuses = new TreeMap<>();
+    private final Map<String, Integer> errors = new TreeMap<>();
+    private int recorded;
+    private long elapsedNanos;
+
+    LoadResult(String name, int requests) {
+        this.name = name;
+        this.latencies = new long[requests];
+    }
+
+    synchronized void record(long latencyNanos, int status, String error) {
+        latencies[recorded++] = latencyNanos;
+        statuses.merge(status, 1, Integer::sum);
+        if (error != null) {
+            errors.merge(error, 1, Integer::sum);
+        }
+    }
+
+    synchronized void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+        Arrays.sort(latencies, 0, recorded);
+    }
+
+    public synchronized int count(int status) {
+        return statuses.getOrDefault(status, 0);
+    }
+
+    // Status 0 stands for requests that got no response
+    public synchronized Map<Integer, Integer> statuses() {
+        return Map.copyOf(statuses);
+    }
+
+    public synchronized Map<String, Integer> errors() {
+        return Map.copyOf(errors);
+    }
+
+    public synchronized double throughput() {
+        return recorded / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    public synchronized double percentileMillis(double percentile) {
+        if (recorded == 0) {
+            return 0;
+        }
+        return latencies[Math.max(0, (int) Math.ceil(percentile * recorded) - 1)] / 1_000_000.0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder report = new StringBuilder(String.format(
+                "%s: %,d requests in %.1f s, %,.0f req/s, p50 %.2f ms, p99 %.2f ms, p999 %.2f ms, max %.2f ms%n",
+                name, recorded, elapsedNanos / 1_000_000_000.0, throughput(),
+                percentileMillis(0.50), percentileMillis(0.99), percentileMillis(0.999), percentileMillis(1.0)));
+        report.append("  statuses: ").append(statuses).append(String.format("%n"));
+        errors.forEach((error, count) -> report.append(String.format("  %-32s %,8d%n", error, count)));
+        return report.toString();
+    }
+}
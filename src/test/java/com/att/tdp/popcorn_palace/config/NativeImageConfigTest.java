@@ -0,0 +1,51 @@
+package com.att.tdp.popcorn_palace.config;
+
+import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.exception.ErrorResponse;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.retry.annotation.Retryable;
+
+import java.sql.PreparedStatement;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NativeImageConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeImageConfig.Hints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void shouldRegisterEntitiesForHibernate() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Showtime.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(Showtime.class, "getStartTime").test(hints));
+    }
+
+    @Test
+    void shouldRegisterDtosForBindingAndValidation() throws Exception {
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(BookingDTO.class.getMethod("setSeatNumber", Integer.class))
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onField(BookingDTO.class.getDeclaredField("seatNumber"))
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(ErrorResponse.class, "getError").test(hints));
+    }
+
+    @Test
+    void shouldRegisterProxiesAndResources() {
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Retryable.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("application.conf").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("db/vendor/postgresql/V3__partition_showtimes_and_bookings.sql").test(hints));
+    }
+}
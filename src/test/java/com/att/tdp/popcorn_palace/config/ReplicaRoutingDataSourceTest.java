@@ -0,0 +1,90 @@
+package com.att.tdp.popcorn_palace.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("routing_primary", "primary");
+        DataSource replica = database("routing_replica", "replica");
+
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        assertEquals("replica", readOnly.execute(status -> whichDatabase()));
+    }
+
+    @Test
+    void shouldRouteReadWriteTransactionsToPrimary() {
+        assertEquals("primary", readWrite.execute(status -> whichDatabase()));
+    }
+
+    @Test
+    void shouldRouteNonTransactionalAccessToPrimary() {
+        assertEquals("primary", whichDatabase());
+    }
+
+    @Test
+    void shouldKeepReadsOnPrimaryAfterWriteInSameRequest() {
+        ReadYourWritesContext.begin(false);
+        assertEquals("replica", readOnly.execute(status -> whichDatabase()));
+
+        readWrite.execute(status -> whichDatabase());
+
+        assertEquals("primary", readOnly.execute(status -> whichDatabase()));
+    }
+
+    @Test
+    void shouldKeepReadsOnPrimaryForPinnedRequest() {
+        ReadYourWritesContext.begin(true);
+        assertEquals("primary", readOnly.execute(status -> whichDatabase()));
+    }
+
+    @Test
+    void shouldNotPinOutsideRequestContext() {
+        readWrite.execute(status -> whichDatabase());
+        assertEquals("replica", readOnly.execute(status -> whichDatabase()));
+    }
+
+    private String whichDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static DataSource database(String name, String marker) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(16))");
+        jdbc.execute("DELETE FROM marker");
+        jdbc.update("INSERT INTO marker (name) VALUES (?)", marker);
+        return dataSource;
+    }
+}
@@ -1,9 +1,11 @@
 package com.att.tdp.popcorn_palace.controller;
 
 import com.att.tdp.popcorn_palace.dto.MovieDTO;
+import com.att.tdp.popcorn_palace.dto.MovieImportResult;
 import com.att.tdp.popcorn_palace.exception.movie.MovieAlreadyExistsException;
 import com.att.tdp.popcorn_palace.exception.movie.MovieNotFoundException;
 import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.service.MovieImportService;
 import com.att.tdp.popcorn_palace.service.MovieService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +16,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 
@@ -36,6 +39,9 @@ class MovieControllerTest {
     @MockBean
     private MovieService movieService;
 
+    @MockBean
+    private MovieImportService movieImportService;
+
     private Movie movie;
     private MovieDTO movieDTO;
 
@@ -70,6 +76,18 @@ class MovieControllerTest {
                 .andExpect(jsonPath("$[0].title").value(movie.getTitle()));
     }
 
+    @Test
+    void shouldReturnMoviesByIds() throws Exception {
+        // Given
+        given(movieService.getMovies(List.of(1L, 42L))).willReturn(List.of(movie));
+
+        // When & Then
+        mockMvc.perform(get("/movies").param("ids", "1,42"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value(movie.getTitle()));
+    }
+
     @Test
     void shouldAddNewMovie() throws Exception {
         // Given
@@ -134,6 +152,16 @@ class MovieControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void shouldAcceptBackgroundDeletion() throws Exception {
+        // Given
+        doNothing().when(movieService).deleteMovieInBackground(movie.getTitle());
+
+        // When & Then
+        mockMvc.perform(delete("/movies/Inception").param("background", "true"))
+                .andExpect(status().isAccepted());
+    }
+
     @Test
     void shouldReturnNotFoundWhenDeletingNonExistentMovie() throws Exception {
         // Given
@@ -144,4 +172,36 @@ class MovieControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.error").exists());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldImportMoviesFromCsv() throws Exception {
+        // Given
+        MovieImportResult result = new MovieImportResult();
+        result.setProcessed(1);
+        result.setImported(1);
+        given(movieImportService.importCsv(any(InputStream.class))).willReturn(result);
+
+        // When & Then
+        mockMvc.perform(post("/movies/import")
+                .contentType("text/csv")
+                .content("title,genre,duration,rating,releaseYear\nInception,Sci-Fi,148,8.8,2010\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1));
+    }
+
+    @Test
+    void shouldImportMoviesFromNdjson() throws Exception {
+        // Given
+        MovieImportResult result = new MovieImportResult();
+        result.setProcessed(1);
+        result.setImported(1);
+        given(movieImportService.importNdjson(any(InputStream.class))).willReturn(result);
+
+        // When & Then
+        mockMvc.perform(post("/movies/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(objectMapper.writeValueAsString(movieDTO) + "\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1));
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -81,6 +82,29 @@ class ShowtimeControllerTest {
                 .andExpect(jsonPath("$.error").exists());
     }
 
+    @Test
+    void shouldGetShowtimesByIds() throws Exception {
+        Showtime second = new Showtime();
+        second.setId(2L);
+        second.setMovie(showtime.getMovie());
+        second.setTheater("Theater 2");
+        when(showtimeService.getShowtimes(List.of(2L, 1L))).thenReturn(List.of(second, showtime));
+
+        mockMvc.perform(get("/showtimes").param("ids", "2,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[1].id").value(1))
+                .andExpect(jsonPath("$[1].movie.title").value("Inception"));
+    }
+
+    @Test
+    void shouldRejectTooManyIds() throws Exception {
+        when(showtimeService.getShowtimes(any())).thenThrow(new IllegalArgumentException("At most 100 ids can be requested at once"));
+
+        mockMvc.perform(get("/showtimes").param("ids", "1,2"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldAddShowtimeSuccessfully() throws Exception {
         when(showtimeService.addShowtime(any())).thenReturn(showtime);
@@ -9,8 +9,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -20,6 +25,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.Map;
 
@@ -122,6 +128,105 @@ public class GlobalExceptionHandlerTest {
         assertEquals(exception.getMessage(), body.getMessage());
     }
 
+    @Test
+    void shouldNotFillInStackTracesForDomainExceptions() {
+        assertEquals(0, new SeatAlreadyBookedException(1L, 1).getStackTrace().length);
+        assertEquals(0, new MovieNotFoundException("Inception").getStackTrace().length);
+        assertEquals(0, new ShowtimeNotFoundException(1L).getStackTrace().length);
+    }
+
+    @Test
+    void shouldMapDuplicateSeatByConstraintName() {
+        DataIntegrityViolationException ex = violation("23505", "PUBLIC.UK_BOOKINGS_SHOWTIME_SEAT_INDEX_A");
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleDataIntegrityViolationException(ex);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Seat Already Booked", response.getBody().getError());
+    }
+
+    @Test
+    void shouldMapDuplicateMovieTitleByConstraintName() {
+        DataIntegrityViolationException ex = violation("23505", "uk_movies_title");
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleDataIntegrityViolationException(ex);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Movie Already Exists", response.getBody().getError());
+    }
+
+    @Test
+    void shouldMapUnknownUniqueViolationToResourceConflict() {
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("duplicate",
+                new SQLException("no constraint name here", "23505"));
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleDataIntegrityViolationException(ex);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Resource Conflict", response.getBody().getError());
+    }
+
+    @Test
+    void shouldMapDuplicateKeyExceptionWithoutSqlState() {
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleDataIntegrityViolationException(new DuplicateKeyException("duplicate"));
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    void shouldMapForeignKeyViolationToConflict() {
+        DataIntegrityViolationException ex = violation("23503", "fk_showtimes_movie");
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleDataIntegrityViolationException(ex);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Referenced Resource Conflict", response.getBody().getError());
+    }
+
+    @Test
+    void shouldMapNotNullViolationToBadRequest() {
+        DataIntegrityViolationException ex = violation("23502", null);
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleDataIntegrityViolationException(ex);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void shouldIgnoreMessageTextWithoutSqlState() {
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("violates unique constraint");
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleDataIntegrityViolationException(ex);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("violates unique constraint", response.getBody().getMessage());
+    }
+
+    @Test
+    void shouldMapSerializationFailureToConflict() {
+        // What Spring makes of PostgreSQL's 40001 once the booking retries are exhausted
+        ConcurrencyFailureException ex = (ConcurrencyFailureException) new SQLErrorCodeSQLExceptionTranslator("PostgreSQL")
+                .translate("commit", null, new SQLException("could not serialize access", "40001"));
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleConcurrencyFailureException(ex);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Concurrent Modification", response.getBody().getError());
+    }
+
+    private static DataIntegrityViolationException violation(String sqlState, String constraintName) {
+        SQLException sqlException = new SQLException("violation", sqlState);
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, constraintName));
+    }
+
     // Test controller to trigger exceptions
     @RestController
     static class TestController {
@@ -0,0 +1,146 @@
+package com.att.tdp.popcorn_palace.integration;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.observability.BookingMetrics;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.OutboxEventRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.retry.RetryContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import jakarta.persistence.OptimisticLockException;
+
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class BookingMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BookingMetrics bookingMetrics;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepository.deleteAllInBatch();
+        bookingRepository.deleteAllInBatch();
+        showtimeRepository.deleteAllInBatch();
+        movieRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldExposeBookingOutcomesAndDbStepsToPrometheus() throws Exception {
+        Movie movie = movieRepository.save(new Movie(null, "Inception", "Sci-Fi", 148, 8.8, 2010, null));
+        Long showtimeId = showtimeRepository.save(new Showtime(null, movie, "Theater 1",
+                ZonedDateTime.now().plusDays(1), ZonedDateTime.now().plusDays(1).plusHours(3), 12.0, null)).getId();
+        double createdBefore = bookings("created");
+        double seatTakenBefore = bookings("seat_taken");
+        double showtimeMissingBefore = bookings("showtime_missing");
+
+        book(showtimeId, 201);
+        book(showtimeId, 409);
+        book(999_999L, 404);
+
+        assertEquals(createdBefore + 1, bookings("created"));
+        assertEquals(seatTakenBefore + 1, bookings("seat_taken"));
+        assertEquals(showtimeMissingBefore + 1, bookings("showtime_missing"));
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertTrue(scrape.contains("booking_create_seconds_bucket{outcome=\"created\""), "p50/p99 histogram of the call");
+        assertTrue(scrape.contains("booking_retries_total"));
+        assertTrue(scrape.contains("spring_data_repository_invocations_seconds_bucket{exception=\"None\",method=\"existsByShowtimeAndSeatNumber\""),
+                "histogram of each DB step");
+        assertTrue(scrape.contains("hikaricp_connections_acquire_seconds_bucket"), "connection pool wait");
+    }
+
+    @Test
+    void shouldListContendedShowtimes() throws Exception {
+        Movie movie = movieRepository.save(new Movie(null, "Inception", "Sci-Fi", 148, 8.8, 2010, null));
+        Long quiet = showtimeRepository.save(new Showtime(null, movie, "Theater 1",
+                ZonedDateTime.now().plusDays(1), ZonedDateTime.now().plusDays(1).plusHours(3), 12.0, null)).getId();
+        Long hot = showtimeRepository.save(new Showtime(null, movie, "Theater 2",
+                ZonedDateTime.now().plusDays(1), ZonedDateTime.now().plusDays(1).plusHours(3), 12.0, null)).getId();
+        mockMvc.perform(delete("/actuator/contention")).andExpect(status().isNoContent());
+
+        book(quiet, 201);
+        book(hot, 201);
+        book(hot, 409);
+        book(hot, 409);
+        book(hot, 409);
+
+        mockMvc.perform(get("/actuator/contention").param("top", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.showtimes.length()").value(1))
+                .andExpect(jsonPath("$.showtimes[0].showtimeId").value(hot))
+                .andExpect(jsonPath("$.showtimes[0].attempts").value(4))
+                .andExpect(jsonPath("$.showtimes[0].conflicts").value(3))
+                .andExpect(jsonPath("$.showtimes[0].conflictRatio").value(0.75));
+    }
+
+    @Test
+    void shouldCountRetriedAttempts() {
+        double before = meterRegistry.get("booking.retries").counter().count();
+        RetryContext succeededOnThirdAttempt = mock(RetryContext.class);
+        when(succeededOnThirdAttempt.getRetryCount()).thenReturn(2);
+        RetryContext exhausted = mock(RetryContext.class);
+        when(exhausted.getRetryCount()).thenReturn(3);
+
+        bookingMetrics.close(succeededOnThirdAttempt, null, null);
+        bookingMetrics.close(exhausted, null, new OptimisticLockException());
+
+        assertEquals(before + 4, meterRegistry.get("booking.retries").counter().count());
+    }
+
+    private void book(Long showtimeId, int expectedStatus) throws Exception {
+        mockMvc.perform(post("/bookings").contentType("application/json")
+                        .content("{\"showtimeId\":" + showtimeId + ",\"seatNumber\":1,\"userId\":\"user123\"}"))
+                .andExpect(status().is(expectedStatus));
+    }
+
+    private double bookings(String outcome) {
+        Timer timer = meterRegistry.find("booking.create").tag("outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
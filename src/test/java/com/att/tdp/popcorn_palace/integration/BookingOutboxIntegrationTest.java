@@ -0,0 +1,133 @@
+package com.att.tdp.popcorn_palace.integration;
+
+import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.OutboxEvent;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.OutboxEventRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.outbox.BookingOutbox;
+import com.att.tdp.popcorn_palace.service.outbox.InMemoryOutboxSink;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "popcorn-palace.outbox.relay.enabled=true",
+        "popcorn-palace.outbox.relay.interval=50ms"
+})
+@AutoConfigureMockMvc
+class BookingOutboxIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private InMemoryOutboxSink outboxSink;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private Showtime showtime;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        Movie movie = new Movie();
+        movie.setTitle("Inception");
+        movie.setGenre("Sci-Fi");
+        movie.setDuration(148);
+        movie.setRating(8.8);
+        movie.setReleaseYear(2010);
+        movie = movieRepository.save(movie);
+
+        showtime = new Showtime();
+        showtime.setMovie(movie);
+        showtime.setTheater("Theater 1");
+        showtime.setStartTime(ZonedDateTime.now().plusDays(1));
+        showtime.setEndTime(ZonedDateTime.now().plusDays(1).plusHours(3));
+        showtime.setPrice(12.99);
+        showtime = showtimeRepository.save(showtime);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        bookingRepository.deleteAll();
+        showtimeRepository.deleteAll();
+        movieRepository.deleteAll();
+    }
+
+    @Test
+    void shouldRelayBookingEventAfterCommit() throws Exception {
+        mockMvc.perform(post("/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BookingDTO(showtime.getId(), 7, "user-7"))))
+                .andExpect(status().isCreated());
+        Long bookingId = bookingRepository.findAll().get(0).getId();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> delivered(bookingId) != null);
+
+        OutboxEvent event = delivered(bookingId);
+        assertEquals(BookingOutbox.BOOKING_CREATED, event.getEventType());
+        JsonNode payload = objectMapper.readTree(event.getPayload());
+        assertEquals(showtime.getId(), payload.get("showtimeId").asLong());
+        assertEquals(7, payload.get("seatNumber").asInt());
+        assertEquals("user-7", payload.get("userId").asText());
+        await().atMost(Duration.ofSeconds(5)).until(() -> outboxEventRepository.count() == 0);
+    }
+
+    @Test
+    void shouldNotRecordEventWhenBookingFails() throws Exception {
+        mockMvc.perform(post("/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BookingDTO(showtime.getId(), 7, "user-7"))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BookingDTO(showtime.getId(), 7, "user-8"))))
+                .andExpect(status().isConflict());
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> outboxEventRepository.count() == 0);
+        List<OutboxEvent> forShowtime = outboxSink.getEvents().stream()
+                .filter(e -> e.getPayload().contains("\"showtimeId\":" + showtime.getId() + ","))
+                .toList();
+        assertEquals(1, forShowtime.size());
+    }
+
+    private OutboxEvent delivered(Long bookingId) {
+        return outboxSink.getEvents().stream()
+                .filter(e -> e.getAggregateId().equals(bookingId))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -1,18 +1,24 @@
 package com.att.tdp.popcorn_palace.integration;
 
+import com.att.tdp.popcorn_palace.model.Booking;
 import com.att.tdp.popcorn_palace.model.Movie;
 import com.att.tdp.popcorn_palace.model.Showtime;
 import com.att.tdp.popcorn_palace.repository.BookingRepository;
 import com.att.tdp.popcorn_palace.repository.MovieRepository;
 import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -22,7 +28,10 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -38,7 +47,7 @@ public class ConcurrentBookingTest {
     @Autowired
     private ShowtimeRepository showtimeRepository;
 
-    @Autowired
+    @MockitoSpyBean
     private BookingRepository bookingRepository;
 
     private Movie movie;
@@ -73,6 +82,15 @@ public class ConcurrentBookingTest {
         showtime = showtimeRepository.save(showtime);
     }
 
+    @AfterEach
+    void cleanUp() {
+        // The bookings are committed by the request threads; tests that only clean showtimes and
+        // movies would otherwise trip over them
+        bookingRepository.deleteAll();
+        showtimeRepository.deleteAll();
+        movieRepository.deleteAll();
+    }
+
     @Test
     void shouldHandleConcurrentBookingAttempts() throws Exception {
         int numberOfThreads = 5;
@@ -146,4 +164,40 @@ public class ConcurrentBookingTest {
         // Verify only one booking exists in database
         assertEquals(1, bookingRepository.count(), "Only one booking should exist in database");
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldAnswerConflictWhenSerializationFailureLosesTheSeat() throws Exception {
+        assertConflictWhenLoserIsAbortedWith("40001");
+    }
+
+    @Test
+    void shouldAnswerConflictWhenDeadlockLosesTheSeat() throws Exception {
+        assertConflictWhenLoserIsAbortedWith("40P01");
+    }
+
+    // What PostgreSQL does to the losers of a SERIALIZABLE race, which H2 cannot reproduce: the seat
+    // check passed, another booking committed, and the INSERT is aborted with the given SQLSTATE
+    // instead of a unique violation. Translated the way Spring does for PostgreSQL.
+    private void assertConflictWhenLoserIsAbortedWith(String sqlState) throws Exception {
+        doAnswer(invocation -> {
+            CompletableFuture.runAsync(() -> {
+                Booking winner = new Booking();
+                winner.setShowtime(showtime);
+                winner.setSeatNumber(seatNumber);
+                winner.setUserId("winner");
+                bookingRepository.save(winner);
+            }).get(10, TimeUnit.SECONDS);
+            throw new SQLErrorCodeSQLExceptionTranslator("PostgreSQL").translate("insert", null,
+                    new SQLException("could not complete the booking", sqlState));
+        }).when(bookingRepository).saveAndFlush(any());
+
+        mockMvc.perform(post("/bookings")
+                        .contentType("application/json")
+                        .content("{\"showtimeId\":" + showtime.getId() + ",\"seatNumber\":" + seatNumber
+                                + ",\"userId\":\"loser\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Seat Already Booked"));
+
+        assertEquals(1, bookingRepository.count(), "Only the winner's booking should exist");
+    }
+}
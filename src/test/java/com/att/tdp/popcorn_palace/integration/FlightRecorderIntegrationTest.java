@@ -0,0 +1,119 @@
+package com.att.tdp.popcorn_palace.integration;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.observability.jfr.JfrLatencyReport;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.OutboxEventRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class FlightRecorderIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepository.deleteAllInBatch();
+        bookingRepository.deleteAllInBatch();
+        showtimeRepository.deleteAllInBatch();
+        movieRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldRecordBookingsAttemptsAndOverlapChecks(@TempDir Path directory) throws Exception {
+        Movie movie = movieRepository.save(new Movie(null, "Inception", "Sci-Fi", 148, 8.8, 2010, null));
+        ZonedDateTime start = ZonedDateTime.now().plusDays(1);
+        Long showtimeId = showtimeRepository.save(new Showtime(null, movie, "Theater 1",
+                start, start.plusHours(3), 12.0, null)).getId();
+        Path dump = directory.resolve("bookings.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("popcornpalace.Booking");
+            recording.enable("popcornpalace.BookingAttempt");
+            recording.enable("popcornpalace.OverlapCheck");
+            recording.start();
+
+            book(showtimeId, 201);
+            book(showtimeId, 409);
+            mockMvc.perform(post("/showtimes").contentType("application/json")
+                            .content("{\"movieId\":" + movie.getId() + ",\"price\":10.0,\"theater\":\"Theater 1\","
+                                    + "\"startTime\":\"" + start.plusHours(1).toOffsetDateTime() + "\","
+                                    + "\"endTime\":\"" + start.plusHours(2).toOffsetDateTime() + "\"}"))
+                    .andExpect(status().isConflict());
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        List<RecordedEvent> bookings = named(events, "popcornpalace.Booking");
+        assertEquals(List.of("created", "seat_taken"), bookings.stream().map(e -> e.getString("outcome")).toList());
+        assertEquals(showtimeId, bookings.get(0).getLong("showtimeId"));
+        assertEquals(1, bookings.get(0).getInt("seatNumber"));
+        assertTrue(bookings.get(0).getDuration().toNanos() > 0);
+
+        List<RecordedEvent> attempts = named(events, "popcornpalace.BookingAttempt");
+        assertEquals(2, attempts.size());
+        assertTrue(attempts.stream().allMatch(e -> e.getInt("attempt") == 1));
+
+        RecordedEvent overlapCheck = named(events, "popcornpalace.OverlapCheck").get(0);
+        assertEquals("overlap", overlapCheck.getString("outcome"));
+        assertEquals(1, overlapCheck.getInt("overlapping"));
+        assertEquals("Theater 1", overlapCheck.getString("theater"));
+
+        String report = JfrLatencyReport.summarize(dump);
+        assertTrue(report.contains("Booking created "), report);
+        assertTrue(report.contains("BookingAttempt #1 seat_taken "), report);
+        assertTrue(report.contains("OverlapCheck overlap "), report);
+    }
+
+    private void book(Long showtimeId, int expectedStatus) throws Exception {
+        mockMvc.perform(post("/bookings").contentType("application/json")
+                        .content("{\"showtimeId\":" + showtimeId + ",\"seatNumber\":1,\"userId\":\"user123\"}"))
+                .andExpect(status().is(expectedStatus));
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .toList();
+    }
+}
@@ -0,0 +1,83 @@
+package com.att.tdp.popcorn_palace.integration;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.OutboxEventRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The relay is on so a scheduled job is there to check; the context is closed afterwards so it does
+// not drain the outbox of other tests
+@SpringBootTest(properties = "popcorn-palace.outbox.relay.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("lazy")
+@DirtiesContext
+class LazyStartupIntegrationTest {
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepository.deleteAllInBatch();
+        bookingRepository.deleteAllInBatch();
+        showtimeRepository.deleteAllInBatch();
+        movieRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldCreateOnlyTheBookingPathAndScheduledJobsAtStartup() {
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        assertTrue(beanFactory.containsSingleton("bookingController"));
+        assertTrue(beanFactory.containsSingleton("bookingService"));
+        assertTrue(beanFactory.containsSingleton("outboxRelay"));
+        assertFalse(beanFactory.containsSingleton("movieController"));
+        assertFalse(beanFactory.containsSingleton("showtimeController"));
+    }
+
+    @Test
+    void shouldBookAfterALazyStart() throws Exception {
+        Movie movie = movieRepository.save(new Movie(null, "Inception", "Sci-Fi", 148, 8.8, 2010, null));
+        Long showtimeId = showtimeRepository.save(new Showtime(null, movie, "Theater 1",
+                ZonedDateTime.now().plusDays(1), ZonedDateTime.now().plusDays(1).plusHours(3), 12.0, null)).getId();
+
+        mockMvc.perform(post("/bookings").contentType("application/json")
+                        .content("{\"showtimeId\":" + showtimeId + ",\"seatNumber\":1,\"userId\":\"user123\"}"))
+                .andExpect(status().isCreated());
+    }
+}
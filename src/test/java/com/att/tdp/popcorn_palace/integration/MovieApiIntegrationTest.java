@@ -1,8 +1,12 @@
 package com.att.tdp.popcorn_palace.integration;
 
 import com.att.tdp.popcorn_palace.dto.MovieDTO;
+import com.att.tdp.popcorn_palace.model.Booking;
 import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
 import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,7 +17,10 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -31,11 +38,19 @@ class MovieApiIntegrationTest {
     @Autowired
     private MovieRepository movieRepository;
 
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
     private MovieDTO validMovieDTO;
     private MovieDTO invalidMovieDTO;
 
     @BeforeEach
     void setUp() {
+        bookingRepository.deleteAll();
+        showtimeRepository.deleteAll();
         movieRepository.deleteAll();
 
         validMovieDTO = new MovieDTO();
@@ -182,6 +197,40 @@ class MovieApiIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    void shouldDeleteMovieWithShowtimesAndBookings() throws Exception {
+        // Given
+        Movie movie = new Movie();
+        movie.setTitle("Inception");
+        movie.setGenre("Sci-Fi");
+        movie.setDuration(148);
+        movie.setRating(8.8);
+        movie.setReleaseYear(2010);
+        movie = movieRepository.save(movie);
+
+        Showtime showtime = new Showtime();
+        showtime.setMovie(movie);
+        showtime.setTheater("Theater 1");
+        showtime.setStartTime(ZonedDateTime.now().plusHours(1));
+        showtime.setEndTime(ZonedDateTime.now().plusHours(3));
+        showtime.setPrice(12.99);
+        showtime = showtimeRepository.save(showtime);
+
+        Booking booking = new Booking();
+        booking.setShowtime(showtime);
+        booking.setSeatNumber(1);
+        booking.setUserId("user123");
+        bookingRepository.saveAndFlush(booking);
+
+        // When & Then
+        mockMvc.perform(delete("/movies/Inception"))
+                .andExpect(status().isOk());
+
+        assertEquals(0, bookingRepository.count());
+        assertEquals(0, showtimeRepository.count());
+        assertEquals(0, movieRepository.count());
+    }
+
     @Test
     void shouldReturnNotFoundWhenDeletingNonExistentMovie() throws Exception {
         mockMvc.perform(delete("/movies/NonExistent"))
@@ -0,0 +1,112 @@
+package com.att.tdp.popcorn_palace.integration;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "popcorn-palace.movies.import.batch-size=2")
+@AutoConfigureMockMvc
+class MovieImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        bookingRepository.deleteAll();
+        showtimeRepository.deleteAll();
+        movieRepository.deleteAll();
+    }
+
+    @Test
+    void shouldImportCsvAndReportInvalidLines() throws Exception {
+        String csv = """
+                title,genre,duration,rating,releaseYear
+                Inception,Sci-Fi,148,8.8,2010
+                "Crouching Tiger, Hidden Dragon",Action,120,7.9,2000
+                ,Drama,100,7.0,1999
+                Interstellar,Sci-Fi,abc,8.6,2014
+                Memento,Thriller,113,8.4,2000
+                """;
+
+        mockMvc.perform(post("/movies/import")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed", is(5)))
+                .andExpect(jsonPath("$.imported", is(3)))
+                .andExpect(jsonPath("$.failed", is(2)))
+                .andExpect(jsonPath("$.errors[0].line", is(4)))
+                .andExpect(jsonPath("$.errors[0].message", containsString("title")))
+                .andExpect(jsonPath("$.errors[1].line", is(5)))
+                .andExpect(jsonPath("$.errors[1].message", containsString("duration")));
+
+        assertEquals(3, movieRepository.count());
+        assertTrue(movieRepository.findByTitle("Crouching Tiger, Hidden Dragon").isPresent());
+    }
+
+    @Test
+    void shouldUpsertExistingTitlesFromNdjson() throws Exception {
+        Movie existing = new Movie();
+        existing.setTitle("Inception");
+        existing.setGenre("Sci-Fi");
+        existing.setDuration(148);
+        existing.setRating(8.8);
+        existing.setReleaseYear(2010);
+        movieRepository.save(existing);
+
+        String ndjson = """
+                {"title":"Inception","genre":"Thriller","duration":150,"rating":9.0,"releaseYear":2010}
+                {"title":"Tenet","genre":"Action","duration":150
+                {"title":"Dunkirk","genre":"War","duration":106,"rating":7.8,"releaseYear":2017}
+                """;
+
+        mockMvc.perform(post("/movies/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed", is(3)))
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.errors[0].line", is(2)));
+
+        Movie updated = movieRepository.findByTitle("Inception").orElseThrow();
+        assertEquals("Thriller", updated.getGenre());
+        assertEquals(150, updated.getDuration());
+        assertEquals(1L, updated.getVersion());
+        assertEquals(2, movieRepository.count());
+    }
+
+    @Test
+    void shouldRejectCsvWithoutRequiredHeader() throws Exception {
+        mockMvc.perform(post("/movies/import")
+                .contentType("text/csv")
+                .content("name,genre\nInception,Sci-Fi\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+    }
+}
@@ -0,0 +1,202 @@
+package com.att.tdp.popcorn_palace.integration;
+
+import com.att.tdp.popcorn_palace.benchmark.load.HttpLoad;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// The API flows of the Movie, Showtime and Booking integration tests over HTTP, against the JVM jar and
+// the native executable, with each one's startup time and resident memory. Both run on the database
+// given by -Dnative.jdbc-url, by default the compose PostgreSQL; the native executable has no H2.
+// Build both first: mvn -Pnative package native:compile -DskipTests
+// Run with: mvn test -Pnative-smoke
+@Tag("native")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class NativeImageSmokeTest {
+
+    private static final Path BINARY = Path.of(System.getProperty("native.binary", "target/popcorn-palace"));
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final Pattern VM_RSS = Pattern.compile("VmRSS:\\s+(\\d+) kB");
+    // Titles and theaters are unique per run, as both builds share the database
+    private static final String RUN = Long.toString(System.currentTimeMillis(), 36);
+    private static final Map<String, long[]> results = new LinkedHashMap<>();
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    @Order(1)
+    void jvmBuild() throws Exception {
+        Path jar;
+        try (var files = Files.list(Path.of("target"))) {
+            jar = files.filter(file -> file.getFileName().toString().matches("popcorn-palace-.*\\.jar"))
+                    .findFirst().orElse(null);
+        }
+        assumeTrue(jar != null, "No jar in target, build it with mvn -Pnative package -DskipTests");
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(), "-cp", jar.toString()));
+        if (jdbcUrl().startsWith("jdbc:h2:")) {
+            // H2 is test-scoped; the launcher's class loader finds it on the outer class path
+            command.set(2, jar + File.pathSeparator + Path.of(org.h2.Driver.class.getProtectionDomain()
+                    .getCodeSource().getLocation().toURI()));
+        }
+        command.add("org.springframework.boot.loader.launch.JarLauncher");
+        smoke("JVM", command);
+    }
+
+    @Test
+    @Order(2)
+    void nativeExecutable() throws Exception {
+        assumeTrue(Files.isExecutable(BINARY), "No native executable at " + BINARY
+                + ", build it with mvn -Pnative native:compile -DskipTests");
+        smoke("Native", new ArrayList<>(List.of(BINARY.toString())));
+
+        if (results.containsKey("JVM")) {
+            assertTrue(results.get("Native")[0] < results.get("JVM")[0], "The native executable should start faster");
+        }
+    }
+
+    @AfterAll
+    static void report() {
+        System.out.printf("%-8s %18s %14s%n", "Build", "First response ms", "RSS MB");
+        results.forEach((build, numbers) -> System.out.printf("%-8s %18d %14d%n", build, numbers[0], numbers[1] / 1024));
+    }
+
+    private void smoke(String build, List<String> command) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        command.addAll(List.of(
+                "--server.port=" + port,
+                "--spring.datasource.url=" + jdbcUrl(),
+                "--spring.datasource.username=" + System.getProperty("native.jdbc-user", "popcorn-palace"),
+                "--spring.datasource.password=" + System.getProperty("native.jdbc-password", "popcorn-palace"),
+                "--spring.datasource.driver-class-name=",
+                "--popcorn-palace.archive.enabled=false"));
+        if (jdbcUrl().startsWith("jdbc:h2:")) {
+            command.add("--popcorn-palace.partitioning.enabled=false");
+        }
+
+        Path log = Files.createTempFile("smoke", ".log");
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            URI base = URI.create("http://localhost:" + port);
+            untilAnswered(process, base);
+            long startupMillis = (System.nanoTime() - launched) / 1_000_000;
+
+            flows(new HttpLoad(base, 1), base, build);
+            results.put(build, new long[] {startupMillis, residentKilobytes(process)});
+        } catch (Exception | AssertionError e) {
+            throw new AssertionError(build + " failed:\n" + Files.readString(log), e);
+        } finally {
+            process.destroy();
+            process.waitFor();
+            Files.delete(log);
+        }
+    }
+
+    // What MovieApiIntegrationTest, ShowtimeApiIntegrationTest and BookingApiIntegrationTest check,
+    // one request each
+    private void flows(HttpLoad http, URI base, String build) throws Exception {
+        String title = "Smoke " + RUN + " " + build;
+        String movie = "{\"title\":\"" + title + "\",\"genre\":\"Sci-Fi\",\"duration\":148,\"rating\":8.8,"
+                + "\"releaseYear\":2010}";
+        long movieId = http.send(http.post("/movies", movie)).get("id").asLong();
+        assertEquals(409, status(http.post("/movies", movie)));
+        assertEquals(400, status(http.post("/movies", "{\"title\":\"\"}")));
+        assertTrue(http.send(http.get("/movies/all")).findValuesAsText("title").contains(title));
+
+        String theater = "Smoke " + RUN + " " + build;
+        ZonedDateTime start = ZonedDateTime.now().plusDays(1);
+        long showtimeId = http.send(http.post("/showtimes", showtime(movieId, theater, start))).get("id").asLong();
+        assertEquals(409, status(http.post("/showtimes", showtime(movieId, theater, start.plusHours(1)))));
+        assertEquals(404, status(http.post("/showtimes", showtime(-1, theater, start.plusDays(1)))));
+        JsonNode showtime = http.send(http.get("/showtimes/" + showtimeId));
+        assertEquals(theater, showtime.get("theater").asText());
+
+        String booking = "{\"showtimeId\":" + showtimeId + ",\"seatNumber\":1,\"userId\":\"user123\"}";
+        assertEquals(201, status(http.post("/bookings", booking)));
+        assertEquals(409, status(http.post("/bookings", booking)));
+        assertEquals(400, status(http.post("/bookings",
+                "{\"showtimeId\":" + showtimeId + ",\"seatNumber\":0,\"userId\":\"user123\"}")));
+        assertEquals(404, status(http.post("/bookings", "{\"showtimeId\":-1,\"seatNumber\":1,\"userId\":\"user123\"}")));
+
+        // The booked showtime stays; deleting goes through a movie of its own
+        http.send(http.post("/movies", movie.replace(title, title + " deleted")));
+        assertEquals(200, status(delete(base, "/movies/" + title + " deleted")));
+        assertEquals(404, status(delete(base, "/movies/" + title + " deleted")));
+    }
+
+    private static String showtime(long movieId, String theater, ZonedDateTime start) {
+        return "{\"movieId\":" + movieId + ",\"price\":12.0,\"theater\":\"" + theater + "\","
+                + "\"startTime\":\"" + start.toOffsetDateTime() + "\","
+                + "\"endTime\":\"" + start.plusHours(3).toOffsetDateTime() + "\"}";
+    }
+
+    private static HttpRequest delete(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path.replace(" ", "%20"))).DELETE().build();
+    }
+
+    private int status(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private void untilAnswered(Process process, URI base) throws Exception {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (true) {
+            try {
+                status(HttpRequest.newBuilder(base.resolve("/movies/all")).build());
+                return;
+            } catch (IOException notListeningYet) {
+                if (!process.isAlive() || System.nanoTime() > deadline) {
+                    throw new IllegalStateException("The application did not start", notListeningYet);
+                }
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    private static long residentKilobytes(Process process) throws IOException {
+        Path status = Path.of("/proc", Long.toString(process.pid()), "status");
+        if (Files.exists(status)) {
+            Matcher matcher = VM_RSS.matcher(Files.readString(status));
+            if (matcher.find()) {
+                return Long.parseLong(matcher.group(1));
+            }
+        }
+        // macOS
+        Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(process.pid())).start();
+        return Long.parseLong(new String(ps.getInputStream().readAllBytes()).trim());
+    }
+
+    private static String jdbcUrl() {
+        return System.getProperty("native.jdbc-url", "jdbc:postgresql://localhost:5432/popcorn-palace");
+    }
+}
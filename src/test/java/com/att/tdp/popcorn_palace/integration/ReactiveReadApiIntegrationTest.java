@@ -0,0 +1,161 @@
+package com.att.tdp.popcorn_palace.integration;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveReadApiIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveWebServerApplicationContext applicationContext;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private Movie movie;
+    private Showtime showtime;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        movie = new Movie();
+        movie.setTitle("Inception");
+        movie.setGenre("Sci-Fi");
+        movie.setDuration(148);
+        movie.setRating(8.8);
+        movie.setReleaseYear(2010);
+        movie = movieRepository.save(movie);
+
+        Movie second = new Movie();
+        second.setTitle("Interstellar");
+        second.setGenre("Sci-Fi");
+        second.setDuration(169);
+        second.setRating(8.7);
+        second.setReleaseYear(2014);
+        movieRepository.save(second);
+
+        showtime = new Showtime();
+        showtime.setMovie(movie);
+        showtime.setTheater("Theater 1");
+        showtime.setStartTime(ZonedDateTime.now().plusDays(1));
+        showtime.setEndTime(ZonedDateTime.now().plusDays(1).plusHours(3));
+        showtime.setPrice(12.99);
+        showtime = showtimeRepository.save(showtime);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        bookingRepository.deleteAll();
+        showtimeRepository.deleteAll();
+        movieRepository.deleteAll();
+    }
+
+    @Test
+    void shouldServeOnNetty() {
+        assertInstanceOf(NettyWebServer.class, applicationContext.getWebServer());
+    }
+
+    @Test
+    void shouldListMovies() {
+        webTestClient.get().uri("/movies/all")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].title").isEqualTo("Inception")
+                .jsonPath("$[0].releaseYear").isEqualTo(2010)
+                .jsonPath("$[1].title").isEqualTo("Interstellar");
+    }
+
+    @Test
+    void shouldStreamMoviesAsNdjson() {
+        Flux<Map> movies = webTestClient.get().uri("/movies/all")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Map.class)
+                .getResponseBody();
+
+        StepVerifier.create(movies, 1)
+                .assertNext(first -> assertEquals("Inception", first.get("title")))
+                .thenRequest(1)
+                .assertNext(second -> assertEquals("Interstellar", second.get("title")))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldGetShowtimeById() {
+        webTestClient.get().uri("/showtimes/{id}", showtime.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(showtime.getId())
+                .jsonPath("$.theater").isEqualTo("Theater 1")
+                .jsonPath("$.price").isEqualTo(12.99)
+                .jsonPath("$.movie.title").value(is("Inception"));
+    }
+
+    @Test
+    void shouldNegotiateSmile() throws Exception {
+        byte[] body = webTestClient.get().uri("/showtimes/{id}", showtime.getId())
+                .accept(MediaType.parseMediaType("application/x-jackson-smile"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(byte[].class)
+                .returnResult().getResponseBody();
+
+        assertEquals("Theater 1", new SmileMapper().readTree(body).get("theater").asText());
+    }
+
+    @Test
+    void shouldReturnNotFoundForMissingShowtime() {
+        webTestClient.get().uri("/showtimes/{id}", 999_999)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Showtime Not Found");
+    }
+
+    @Test
+    void shouldNotExposeWriteEndpoints() {
+        webTestClient.post().uri("/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("showtimeId", showtime.getId(), "seatNumber", 1, "userId", "user-1"))
+                .exchange()
+                .expectStatus().value(status -> assertTrue(status >= 400));
+        assertEquals(0, bookingRepository.count());
+    }
+}
@@ -0,0 +1,113 @@
+package com.att.tdp.popcorn_palace.integration;
+
+import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.dto.MovieDTO;
+import com.att.tdp.popcorn_palace.dto.ShowtimeDTO;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.ZonedDateTime;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// The replica is a separate in-memory database that never receives the primary's writes,
+// which makes it observable which pool served each read.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rw_primary;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "popcorn-palace.datasource.replica.url=jdbc:h2:mem:rw_replica;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;"
+                + "INIT=RUNSCRIPT FROM 'classpath:db/migration/V1__create_schema.sql'"
+                + "\\\\;RUNSCRIPT FROM 'classpath:db/migration/V2__add_booking_showtime_start.sql'",
+        "popcorn-palace.datasource.replica.username=sa",
+        "popcorn-palace.datasource.replica.password=password",
+        "popcorn-palace.datasource.read-your-writes-window=30s"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        bookingRepository.deleteAllInBatch();
+        showtimeRepository.deleteAllInBatch();
+        movieRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldServeReadsFromReplicaAndWritesFromPrimary() throws Exception {
+        MovieDTO movie = new MovieDTO("Inception", "Sci-Fi", 148, 8.8, 2010);
+
+        Cookie primaryUntil = mockMvc.perform(post("/movies")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(movie)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getCookie("pp-primary-until");
+        assertNotNull(primaryUntil);
+
+        // A client without the cookie reads from the replica, which has not seen the write
+        mockMvc.perform(get("/movies/all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        // The writer reads its own write from the primary
+        mockMvc.perform(get("/movies/all").cookie(primaryUntil))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title", is("Inception")));
+    }
+
+    @Test
+    void shouldBookOnPrimary() throws Exception {
+        MovieDTO movie = new MovieDTO("Inception", "Sci-Fi", 148, 8.8, 2010);
+        long movieId = objectMapper.readTree(mockMvc.perform(post("/movies")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(movie)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("id").asLong();
+
+        ZonedDateTime start = ZonedDateTime.now().plusDays(1);
+        ShowtimeDTO showtime = new ShowtimeDTO(movieId, "Theater 1", start, start.plusHours(3), 12.0);
+        long showtimeId = objectMapper.readTree(mockMvc.perform(post("/showtimes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(showtime)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asLong();
+
+        // The serializable booking transaction runs on the primary, where the showtime is
+        mockMvc.perform(post("/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BookingDTO(showtimeId, 1, "user123"))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$").isNumber());
+    }
+}
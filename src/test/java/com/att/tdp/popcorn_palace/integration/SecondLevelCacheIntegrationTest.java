@@ -0,0 +1,169 @@
+package com.att.tdp.popcorn_palace.integration;
+
+import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.BookingService;
+import com.att.tdp.popcorn_palace.service.MovieService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.att.tdp.popcorn_palace.integration.SecondLevelCacheIntegrationTest$SqlRecorder")
+@AutoConfigureMockMvc
+class SecondLevelCacheIntegrationTest {
+
+    public static class SqlRecorder implements StatementInspector {
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql.toLowerCase(Locale.ROOT));
+            return sql;
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Showtime showtime;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Movie movie = new Movie();
+        movie.setTitle("Inception");
+        movie.setGenre("Sci-Fi");
+        movie.setDuration(148);
+        movie.setRating(8.8);
+        movie.setReleaseYear(2010);
+        movie = movieRepository.save(movie);
+
+        showtime = new Showtime();
+        showtime.setMovie(movie);
+        showtime.setTheater("Theater 1");
+        showtime.setStartTime(ZonedDateTime.now().plusDays(1));
+        showtime.setEndTime(ZonedDateTime.now().plusDays(1).plusHours(3));
+        showtime.setPrice(12.99);
+        showtime = showtimeRepository.save(showtime);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        bookingRepository.deleteAll();
+        showtimeRepository.deleteAll();
+        movieRepository.deleteAll();
+    }
+
+    @Test
+    void warmBookingPathShouldNotSelectShowtimes() {
+        bookingService.createBooking(new BookingDTO(showtime.getId(), 1, "user-1"));
+
+        SqlRecorder.statements.clear();
+        long hitsBefore = statistics.getDomainDataRegionStatistics("showtimes").getHitCount();
+
+        bookingService.createBooking(new BookingDTO(showtime.getId(), 2, "user-2"));
+
+        List<String> showtimeSelects = SqlRecorder.statements.stream()
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from showtimes"))
+                .toList();
+        assertEquals(List.of(), showtimeSelects);
+        assertTrue(SqlRecorder.statements.stream().anyMatch(sql -> sql.startsWith("insert into bookings")));
+        assertEquals(hitsBefore + 1, statistics.getDomainDataRegionStatistics("showtimes").getHitCount());
+    }
+
+    @Test
+    void catalogQueryShouldBeServedFromQueryCache() {
+        movieService.getAllMovies();
+        long hitsBefore = statistics.getQueryCacheHitCount();
+
+        SqlRecorder.statements.clear();
+        assertEquals(1, movieService.getAllMovies().size());
+
+        assertEquals(hitsBefore + 1, statistics.getQueryCacheHitCount());
+        assertTrue(SqlRecorder.statements.stream().noneMatch(sql -> sql.contains(" from movies")));
+    }
+
+    @Test
+    void batchLookupShouldServeCachedShowtimesBeforeQuerying() throws Exception {
+        Showtime uncached = new Showtime();
+        uncached.setMovie(showtime.getMovie());
+        uncached.setTheater("Theater 2");
+        uncached.setStartTime(ZonedDateTime.now().plusDays(2));
+        uncached.setEndTime(ZonedDateTime.now().plusDays(2).plusHours(3));
+        uncached.setPrice(10.0);
+        uncached = showtimeRepository.save(uncached);
+        showtimeRepository.findById(showtime.getId());
+        entityManagerFactory.getCache().evict(Showtime.class, uncached.getId());
+
+        SqlRecorder.statements.clear();
+        long hitsBefore = statistics.getDomainDataRegionStatistics("showtimes").getHitCount();
+
+        mockMvc.perform(get("/showtimes").param("ids", uncached.getId() + "," + showtime.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(uncached.getId()))
+                .andExpect(jsonPath("$[1].id").value(showtime.getId()))
+                .andExpect(jsonPath("$[0].movie.title").value("Inception"));
+
+        List<String> showtimeSelects = SqlRecorder.statements.stream()
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from showtimes"))
+                .toList();
+        assertEquals(1, showtimeSelects.size());
+        assertTrue(showtimeSelects.get(0).contains("join movies"));
+        assertEquals(hitsBefore + 1, statistics.getDomainDataRegionStatistics("showtimes").getHitCount());
+    }
+
+    @Test
+    void shouldExposeCacheStatisticsThroughActuator() throws Exception {
+        showtimeRepository.findById(showtime.getId());
+
+        mockMvc.perform(get("/actuator/hibernatecache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statisticsEnabled").value(true))
+                .andExpect(jsonPath("$.regions.showtimes.hits", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.queryCache.misses").exists());
+    }
+}
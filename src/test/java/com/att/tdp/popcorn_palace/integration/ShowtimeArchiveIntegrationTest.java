@@ -0,0 +1,169 @@
+package com.att.tdp.popcorn_palace.integration;
+
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeArchiveRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.ShowtimeArchiver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.reset;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "popcorn-palace.archive.enabled=true",
+        "popcorn-palace.archive.chunk-size=1",
+        "popcorn-palace.archive.interval=1h",
+        "popcorn-palace.coalescing.micro-ttl=1h"
+})
+@AutoConfigureMockMvc
+class ShowtimeArchiveIntegrationTest {
+
+    @TempDir
+    static Path archiveDirectory;
+
+    @DynamicPropertySource
+    static void archiveProperties(DynamicPropertyRegistry registry) {
+        registry.add("popcorn-palace.archive.directory", archiveDirectory::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShowtimeArchiver showtimeArchiver;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @MockitoSpyBean
+    private ShowtimeArchiveRepository archiveRepository;
+
+    private Movie movie;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        movie = new Movie();
+        movie.setTitle("Inception");
+        movie.setGenre("Sci-Fi");
+        movie.setDuration(148);
+        movie.setRating(8.8);
+        movie.setReleaseYear(2010);
+        movie = movieRepository.save(movie);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        bookingRepository.deleteAll();
+        showtimeRepository.deleteAll();
+        movieRepository.deleteAll();
+    }
+
+    @Test
+    void shouldMoveEndedShowtimesAndBookingsToArchive() throws Exception {
+        Showtime ended = saveShowtime(ZonedDateTime.now().minusDays(2));
+        Showtime endedEarlier = saveShowtime(ZonedDateTime.now().minusDays(3));
+        Showtime upcoming = saveShowtime(ZonedDateTime.now().plusDays(1));
+        saveBooking(ended, 1);
+        saveBooking(ended, 2);
+        saveBooking(upcoming, 1);
+        // Coalesced, and kept for the micro-TTL unless the archiver evicts it
+        mockMvc.perform(get("/showtimes/" + ended.getId())).andExpect(status().isOk());
+
+        assertEquals(2, showtimeArchiver.archiveEndedShowtimes());
+
+        mockMvc.perform(get("/showtimes/" + ended.getId())).andExpect(status().isNotFound());
+
+        assertFalse(showtimeRepository.existsById(ended.getId()));
+        assertFalse(showtimeRepository.existsById(endedEarlier.getId()));
+        assertTrue(showtimeRepository.existsById(upcoming.getId()));
+        assertEquals(1, bookingRepository.count());
+
+        mockMvc.perform(get("/archive/showtimes/" + ended.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.movieId", is(movie.getId().intValue())))
+                .andExpect(jsonPath("$.bookings", hasSize(2)))
+                .andExpect(jsonPath("$.bookings[0].seatNumber", is(1)));
+
+        mockMvc.perform(get("/archive/showtimes").param("movieId", movie.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+
+        mockMvc.perform(get("/archive/showtimes/" + upcoming.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldNotLoseBookingMadeWhileArchiving() throws Exception {
+        Showtime ended = saveShowtime(ZonedDateTime.now().minusDays(2));
+        saveBooking(ended, 1);
+
+        // A late booking commits between reading the chunk and deleting it. H2 does not block the
+        // insert on the showtime's row lock, so the delete finds one booking more than was written.
+        doAnswer(invocation -> {
+            CompletableFuture.runAsync(() -> saveBooking(ended, 2)).get(10, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(archiveRepository).write(any());
+
+        assertThrows(IllegalStateException.class, () -> showtimeArchiver.archiveEndedShowtimes());
+        assertTrue(showtimeRepository.existsById(ended.getId()));
+        assertEquals(2, bookingRepository.count());
+
+        // The next run rewrites the chunk with both bookings
+        reset(archiveRepository);
+        assertEquals(1, showtimeArchiver.archiveEndedShowtimes());
+
+        assertEquals(0, bookingRepository.count());
+        mockMvc.perform(get("/archive/showtimes/" + ended.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookings[*].seatNumber", contains(1, 2)));
+    }
+
+    private Showtime saveShowtime(ZonedDateTime startTime) {
+        Showtime showtime = new Showtime();
+        showtime.setMovie(movie);
+        showtime.setTheater("Theater 1");
+        showtime.setStartTime(startTime);
+        showtime.setEndTime(startTime.plusHours(3));
+        showtime.setPrice(12.99);
+        return showtimeRepository.save(showtime);
+    }
+
+    private void saveBooking(Showtime showtime, int seatNumber) {
+        Booking booking = new Booking();
+        booking.setShowtime(showtime);
+        booking.setSeatNumber(seatNumber);
+        booking.setUserId("user-" + seatNumber);
+        bookingRepository.save(booking);
+    }
+}
@@ -0,0 +1,114 @@
+package com.att.tdp.popcorn_palace.integration;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "popcorn-palace.sql-observer.sample-rate=1.0",
+        "popcorn-palace.sql-observer.n-plus-one-threshold=3",
+        // Every lazy movie load then reaches the database
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureMockMvc
+@Import(SqlObserverIntegrationTest.ShowtimeTitlesController.class)
+class SqlObserverIntegrationTest {
+
+    // Touches each showtime's lazy movie one by one, the shape of an N+1
+    @RestController
+    static class ShowtimeTitlesController {
+
+        private final ShowtimeRepository showtimeRepository;
+
+        ShowtimeTitlesController(ShowtimeRepository showtimeRepository) {
+            this.showtimeRepository = showtimeRepository;
+        }
+
+        @GetMapping("/test/showtime-titles")
+        List<String> titles() {
+            return showtimeRepository.findAll().stream().map(showtime -> showtime.getMovie().getTitle()).toList();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        bookingRepository.deleteAllInBatch();
+        showtimeRepository.deleteAllInBatch();
+        movieRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldListSampledQueriesWithTheirRows() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            movieRepository.save(new Movie(null, "Movie " + i, "Drama", 100, 7.0, 2020, null));
+        }
+        mockMvc.perform(delete("/actuator/sqlstats")).andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/movies/all")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/sqlstats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sampleRate").value(1.0))
+                .andExpect(jsonPath("$.slowQueries.length()").value(1))
+                .andExpect(jsonPath("$.slowQueries[0].fingerprint", containsString("from movies")))
+                .andExpect(jsonPath("$.slowQueries[0].samples").value(1))
+                .andExpect(jsonPath("$.slowQueries[0].meanRows").value(3.0))
+                .andExpect(jsonPath("$.nPlusOne.length()").value(0));
+        mockMvc.perform(get("/actuator/metrics/hibernate.statements"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldReportLazyMovieLoadsAsNPlusOne() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            Movie movie = movieRepository.save(new Movie(null, "Movie " + i, "Drama", 100, 7.0, 2020, null));
+            showtimeRepository.save(new Showtime(null, movie, "Theater " + i,
+                    ZonedDateTime.now().plusDays(1), ZonedDateTime.now().plusDays(1).plusHours(3), 10.0, null));
+        }
+        mockMvc.perform(delete("/actuator/sqlstats")).andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/test/showtime-titles")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/sqlstats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nPlusOne.length()").value(1))
+                .andExpect(jsonPath("$.nPlusOne[0].endpoint").value("GET /test/showtime-titles"))
+                .andExpect(jsonPath("$.nPlusOne[0].fingerprint", containsString("from movies")))
+                .andExpect(jsonPath("$.nPlusOne[0].maxExecutionsPerRequest").value(4));
+    }
+}
@@ -0,0 +1,192 @@
+package com.att.tdp.popcorn_palace.integration;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.OutboxEventRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.BookingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.AspectJPrecedenceInformation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@Import(TracingIntegrationTest.InMemorySpans.class)
+class TracingIntegrationTest {
+
+    // Picked up by Spring Boot's span processor next to the OTLP exporter, when one is configured
+    @TestConfiguration(proxyBeanMethods = false)
+    static class InMemorySpans {
+
+        @Bean
+        SpanCollector spanCollector() {
+            return new SpanCollector();
+        }
+    }
+
+    static class SpanCollector implements SpanExporter {
+
+        private final List<SpanData> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> batch) {
+            spans.addAll(batch);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private SpanCollector spanCollector;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepository.deleteAllInBatch();
+        bookingRepository.deleteAllInBatch();
+        showtimeRepository.deleteAllInBatch();
+        movieRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldTraceBookingFromRequestToCommit() throws Exception {
+        Movie movie = movieRepository.save(new Movie(null, "Inception", "Sci-Fi", 148, 8.8, 2010, null));
+        Long showtimeId = showtimeRepository.save(new Showtime(null, movie, "Theater 1",
+                ZonedDateTime.now().plusDays(1), ZonedDateTime.now().plusDays(1).plusHours(3), 12.0, null)).getId();
+        flush();
+        spanCollector.spans.clear();
+
+        mockMvc.perform(post("/bookings").contentType("application/json")
+                        .content("{\"showtimeId\":" + showtimeId + ",\"seatNumber\":1,\"userId\":\"user123\"}"))
+                .andExpect(status().isCreated());
+        flush();
+
+        SpanData request = single("http post /bookings");
+        List<SpanData> trace = spanCollector.spans.stream()
+                .filter(span -> span.getTraceId().equals(request.getTraceId()))
+                .toList();
+
+        SpanData attempt = named(trace, "booking attempt 1").get(0);
+        assertEquals(request.getSpanId(), attempt.getParentSpanId());
+        assertEquals("created", attempt.getAttributes().get(AttributeKey.stringKey("outcome")));
+
+        SpanData commit = named(trace, "transaction.commit").get(0);
+        assertEquals(attempt.getSpanId(), commit.getParentSpanId());
+
+        List<SpanData> queries = trace.stream().filter(span -> span.getName().startsWith("jdbc ")).toList();
+        assertFalse(queries.isEmpty());
+        assertTrue(queries.stream().anyMatch(query -> query.getParentSpanId().equals(commit.getSpanId())
+                        && query.getName().equals("jdbc insert")),
+                "The booking insert is flushed on commit");
+        assertTrue(queries.stream().allMatch(query ->
+                query.getAttributes().get(AttributeKey.stringKey("db.statement")) != null));
+        assertFalse(named(trace, "connection acquire").isEmpty());
+    }
+
+    @Test
+    void shouldNotObserveStatementsOutsideAnObservation() {
+        flush();
+        spanCollector.spans.clear();
+
+        movieRepository.count();
+        flush();
+
+        assertTrue(spanCollector.spans.stream().noneMatch(span -> span.getName().startsWith("jdbc ")
+                        || span.getName().equals("connection acquire")),
+                () -> "Spans: " + spanCollector.spans.stream().map(SpanData::getName).toList());
+        assertNull(meterRegistry.find("jdbc.query").meter());
+        assertNull(meterRegistry.find("jdbc.connection.acquire").meter());
+    }
+
+    @Test
+    void shouldObserveEachAttemptBetweenRetryAndTransaction() {
+        List<String> chain = Arrays.stream(((Advised) bookingService).getAdvisors())
+                .map(advisor -> advisor instanceof AspectJPrecedenceInformation aspect
+                        ? aspect.getAspectName() : advisor.getAdvice().getClass().getSimpleName())
+                .toList();
+
+        List<String> expected = List.of("AnnotationAwareRetryOperationsInterceptor", "bookingAttemptObservation",
+                "bookingAttemptRecorder", "TransactionInterceptor");
+        assertEquals(expected, chain.stream().filter(expected::contains).toList(), () -> "Advisors: " + chain);
+    }
+
+    private void flush() {
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+    }
+
+    private SpanData single(String name) {
+        List<SpanData> spans = named(spanCollector.spans, name);
+        assertEquals(1, spans.size(), () -> "Spans: " + spanCollector.spans.stream().map(SpanData::getName).toList());
+        return spans.get(0);
+    }
+
+    private static List<SpanData> named(List<SpanData> spans, String name) {
+        return spans.stream().filter(span -> span.getName().equals(name)).toList();
+    }
+}
@@ -0,0 +1,131 @@
+package com.att.tdp.popcorn_palace.integration;
+
+import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class WireFormatIntegrationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final CBORMapper cborMapper = new CBORMapper();
+    private final SmileMapper smileMapper = new SmileMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private Showtime showtime;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        Movie movie = new Movie();
+        movie.setTitle("Inception");
+        movie.setGenre("Sci-Fi");
+        movie.setDuration(148);
+        movie.setRating(8.8);
+        movie.setReleaseYear(2010);
+        movie = movieRepository.save(movie);
+
+        showtime = new Showtime();
+        showtime.setMovie(movie);
+        showtime.setTheater("Theater 1");
+        showtime.setStartTime(ZonedDateTime.now().plusDays(1));
+        showtime.setEndTime(ZonedDateTime.now().plusDays(1).plusHours(3));
+        showtime.setPrice(12.99);
+        showtime = showtimeRepository.save(showtime);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        bookingRepository.deleteAll();
+        showtimeRepository.deleteAll();
+        movieRepository.deleteAll();
+    }
+
+    @Test
+    void shouldRegisterBlackbirdWithTheJsonMapper() {
+        assertTrue(objectMapper.getRegisteredModuleIds().stream()
+                .anyMatch(id -> id.toString().contains("Blackbird")));
+    }
+
+    @Test
+    void shouldServeMoviesAsCbor() throws Exception {
+        byte[] body = mockMvc.perform(get("/movies/all").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode movies = cborMapper.readTree(body);
+        assertEquals(1, movies.size());
+        assertEquals("Inception", movies.get(0).get("title").asText());
+        assertEquals(2010, movies.get(0).get("releaseYear").asInt());
+    }
+
+    @Test
+    void shouldServeShowtimeAsSmileWithJsonTimestamps() throws Exception {
+        String json = mockMvc.perform(get("/showtimes/" + showtime.getId()).accept(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString();
+        byte[] body = mockMvc.perform(get("/showtimes/" + showtime.getId()).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode fromSmile = smileMapper.readTree(body);
+        JsonNode fromJson = objectMapper.readTree(json);
+        assertEquals(fromJson.get("startTime"), fromSmile.get("startTime"));
+        assertEquals("Theater 1", fromSmile.get("theater").asText());
+        assertTrue(body.length < json.getBytes().length);
+    }
+
+    @Test
+    void shouldAcceptAndAnswerBookingsInCbor() throws Exception {
+        byte[] request = cborMapper.writeValueAsBytes(new BookingDTO(showtime.getId(), 3, "user-3"));
+
+        byte[] body = mockMvc.perform(post("/bookings")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(request))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Long bookingId = cborMapper.readValue(body, Long.class);
+        assertEquals(bookingRepository.findAll().get(0).getId(), bookingId);
+    }
+}
@@ -0,0 +1,85 @@
+package com.att.tdp.popcorn_palace.observability;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeavyHittersTest {
+
+    @Test
+    void shouldRankKeysByConflictsWithTheirRatio() {
+        HeavyHitters heavyHitters = new HeavyHitters(1024, 16);
+        record(heavyHitters, 1L, 10, 2);
+        record(heavyHitters, 2L, 10, 8);
+        record(heavyHitters, 3L, 5, 0);
+
+        List<HeavyHitters.Entry> top = heavyHitters.top(10);
+
+        assertEquals(List.of(
+                new HeavyHitters.Entry(2L, 10, 8, 0.8),
+                new HeavyHitters.Entry(1L, 10, 2, 0.2)), top);
+        assertEquals(1, heavyHitters.top(1).size());
+    }
+
+    @Test
+    void shouldKeepTheHeavyHittersAmongManyColdKeys() {
+        HeavyHitters heavyHitters = new HeavyHitters(1024, 8);
+        for (long key = 1_000; key < 3_000; key++) {
+            record(heavyHitters, key, 1, 1);
+            if (key % 100 == 0) {
+                record(heavyHitters, 7L, 20, 20);
+                record(heavyHitters, 9L, 10, 10);
+            }
+        }
+
+        List<HeavyHitters.Entry> top = heavyHitters.top(2);
+
+        assertEquals(List.of(7L, 9L), top.stream().map(HeavyHitters.Entry::key).toList());
+        assertTrue(top.get(0).conflicts() >= 400, "Count-min estimates never under-count");
+    }
+
+    @Test
+    void shouldNotLoseConcurrentUpdates() throws Exception {
+        HeavyHitters heavyHitters = new HeavyHitters(1024, 16);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> record(heavyHitters, 42L, 10_000, 5_000)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(new HeavyHitters.Entry(42L, 80_000, 40_000, 0.5), heavyHitters.top(1).get(0));
+    }
+
+    @Test
+    void shouldForgetEverythingOnReset() {
+        HeavyHitters heavyHitters = new HeavyHitters(1024, 16);
+        record(heavyHitters, 1L, 3, 3);
+
+        heavyHitters.reset();
+
+        assertTrue(heavyHitters.top(10).isEmpty());
+        record(heavyHitters, 1L, 2, 1);
+        assertEquals(new HeavyHitters.Entry(1L, 2, 1, 0.5), heavyHitters.top(1).get(0));
+    }
+
+    @Test
+    void shouldRequireAPowerOfTwoWidth() {
+        assertThrows(IllegalArgumentException.class, () -> new HeavyHitters(1000, 16));
+    }
+
+    private static void record(HeavyHitters heavyHitters, long key, int attempts, int conflicts) {
+        for (int i = 0; i < attempts; i++) {
+            heavyHitters.record(key, i < conflicts);
+        }
+    }
+}
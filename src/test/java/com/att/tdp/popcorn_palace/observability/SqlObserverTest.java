@@ -0,0 +1,83 @@
+package com.att.tdp.popcorn_palace.observability;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlObserverTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldFingerprintLiteralsAndInLists() {
+        assertEquals("select * from movies where title=? and rating>? and id in (?)",
+                SqlObserver.fingerprint("SELECT *  FROM movies\n WHERE title='It''s' AND rating>7.5 AND id IN (?, ?, ?)"));
+        assertEquals("select m1_0.id from movies m1_0 where m1_0.id=?",
+                SqlObserver.fingerprint("select m1_0.id from movies m1_0 where m1_0.id=?"));
+    }
+
+    @Test
+    void shouldSampleAtTheConfiguredRate() {
+        SqlObserver always = new SqlObserver(meterRegistry, 1.0, 5, 100);
+        SqlObserver never = new SqlObserver(meterRegistry, 0.0, 5, 100);
+
+        assertTrue(always.onStatement("select 1"));
+        assertFalse(never.onStatement("select 1"));
+    }
+
+    @Test
+    void shouldAggregateSamplesByFingerprint() {
+        SqlObserver observer = new SqlObserver(meterRegistry, 0.5, 5, 100);
+        observer.record("select * from movies where id=1", 2_000_000, 1);
+        observer.record("select * from movies where id=2", 4_000_000, 1);
+        observer.record("insert into bookings values (?, ?)", 1_000_000, 1);
+
+        List<Map<String, Object>> slowest = observer.slowestQueries(1);
+
+        assertEquals(1, slowest.size());
+        assertEquals("select * from movies where id=?", slowest.get(0).get("fingerprint"));
+        assertEquals(2L, slowest.get(0).get("samples"));
+        assertEquals(4L, slowest.get(0).get("estimatedExecutions"));
+        assertEquals(3.0, slowest.get(0).get("meanMillis"));
+        assertEquals(4.0, slowest.get(0).get("maxMillis"));
+        assertEquals(2L, meterRegistry.get("sql.statements").tag("operation", "select").timer().count());
+    }
+
+    @Test
+    void shouldDropSamplesWhenTheQueueIsFull() {
+        SqlObserver observer = new SqlObserver(meterRegistry, 1.0, 5, 1);
+        observer.record("select 1", 1, 1);
+        observer.record("select 2", 1, 1);
+
+        assertEquals(1.0, meterRegistry.get("sql.samples.dropped").counter().count());
+    }
+
+    @Test
+    void shouldFlagASelectRepeatedWithinOneRequest() {
+        SqlObserver observer = new SqlObserver(meterRegistry, 0.0, 3, 100);
+
+        observer.beginRequest();
+        observer.onStatement("select * from showtimes");
+        for (int i = 0; i < 3; i++) {
+            observer.onStatement("select * from movies where id=?");
+            observer.onStatement("insert into bookings values (?)");
+        }
+        observer.endRequest("GET /showtimes");
+        observer.beginRequest();
+        observer.onStatement("select * from movies where id=?");
+        observer.endRequest("GET /showtimes");
+
+        List<Map<String, Object>> suspects = observer.nPlusOneSuspects(10);
+        assertEquals(1, suspects.size());
+        assertEquals("GET /showtimes", suspects.get(0).get("endpoint"));
+        assertEquals("select * from movies where id=?", suspects.get(0).get("fingerprint"));
+        assertEquals(1L, suspects.get(0).get("requests"));
+        assertEquals(3, suspects.get(0).get("maxExecutionsPerRequest"));
+        assertEquals(1.0, meterRegistry.get("sql.n_plus_one").tag("endpoint", "GET /showtimes").counter().count());
+        assertEquals(8.0, meterRegistry.get("sql.statements.per_request").summary().totalAmount());
+    }
+}
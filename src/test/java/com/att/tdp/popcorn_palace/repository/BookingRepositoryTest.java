@@ -1,5 +1,6 @@
 package com.att.tdp.popcorn_palace.repository;
 
+import com.att.tdp.popcorn_palace.exception.DataIntegrityViolation;
 import com.att.tdp.popcorn_palace.model.Booking;
 import com.att.tdp.popcorn_palace.model.Movie;
 import com.att.tdp.popcorn_palace.model.Showtime;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.ZonedDateTime;
 import java.util.Optional;
@@ -131,4 +133,26 @@ public class BookingRepositoryTest {
         // Then
         assertFalse(exists);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldClassifyDuplicateSeatBySqlState() {
+        // Given
+        Booking booking = new Booking();
+        booking.setShowtime(showtime);
+        booking.setSeatNumber(1);
+        booking.setUserId("user123");
+        entityManager.persistAndFlush(booking);
+
+        Booking duplicate = new Booking();
+        duplicate.setShowtime(showtime);
+        duplicate.setSeatNumber(1);
+        duplicate.setUserId("user456");
+
+        // When
+        DataIntegrityViolationException ex = assertThrows(DataIntegrityViolationException.class,
+                () -> bookingRepository.saveAndFlush(duplicate));
+
+        // Then: batched inserts carry no constraint name, the SQLSTATE is enough for a 409
+        assertTrue(DataIntegrityViolation.of(ex).isUniqueKey());
+    }
+}
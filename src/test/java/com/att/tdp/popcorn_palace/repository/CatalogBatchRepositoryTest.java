@@ -0,0 +1,95 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "popcorn-palace.batch-lookup.max-ids=10")
+@Import(CatalogBatchRepository.class)
+class CatalogBatchRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CatalogBatchRepository catalogBatchRepository;
+
+    private final List<Movie> movies = new ArrayList<>();
+    private final List<Showtime> showtimes = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            Movie movie = new Movie();
+            movie.setTitle("Movie " + i);
+            movie.setGenre("Genre");
+            movie.setDuration(120);
+            movie.setRating(8.0);
+            movie.setReleaseYear(2022);
+            movies.add(entityManager.persist(movie));
+
+            Showtime showtime = new Showtime();
+            showtime.setMovie(movie);
+            showtime.setStartTime(ZonedDateTime.now().plusHours(1 + i));
+            showtime.setEndTime(ZonedDateTime.now().plusHours(2 + i));
+            showtime.setPrice(10.0);
+            showtime.setTheater("Theater " + i);
+            showtimes.add(entityManager.persist(showtime));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManager().getEntityManagerFactory().getCache().evictAll();
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void shouldLoadShowtimesWithTheirMoviesInOneQueryInRequestOrder() {
+        statistics.clear();
+
+        List<Showtime> found = catalogBatchRepository.findShowtimesInOrder(
+                List.of(showtimes.get(2).getId(), showtimes.get(0).getId(), 999_999L, showtimes.get(1).getId(),
+                        showtimes.get(0).getId()));
+
+        assertEquals(List.of(showtimes.get(2).getId(), showtimes.get(0).getId(), showtimes.get(1).getId()),
+                found.stream().map(Showtime::getId).toList());
+        assertTrue(found.stream().allMatch(showtime -> Hibernate.isInitialized(showtime.getMovie())));
+        assertEquals("Movie 2", found.get(0).getMovie().getTitle());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldLoadMoviesInRequestOrder() {
+        statistics.clear();
+
+        List<Movie> found = catalogBatchRepository.findMoviesInOrder(
+                List.of(movies.get(1).getId(), 999_999L, movies.get(0).getId()));
+
+        assertEquals(List.of("Movie 1", "Movie 0"), found.stream().map(Movie::getTitle).toList());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldRejectMoreIdsThanTheLimit() {
+        List<Long> ids = Collections.nCopies(11, 1L);
+
+        assertThrows(IllegalArgumentException.class, () -> catalogBatchRepository.findShowtimesInOrder(ids));
+        assertThrows(IllegalArgumentException.class, () -> catalogBatchRepository.findMoviesInOrder(ids));
+    }
+}
@@ -0,0 +1,97 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.OutboxEvent;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "popcorn-palace.bookings.repository=jdbc")
+@Import({JdbcBookingRepository.class, SequenceIdAllocator.class})
+class JdbcBookingRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcBookingRepository jdbcBookingRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private Showtime showtime;
+
+    @BeforeEach
+    void setUp() {
+        Movie movie = new Movie();
+        movie.setTitle("Test Movie");
+        movie.setGenre("Genre");
+        movie.setDuration(120);
+        movie.setRating(8.0);
+        movie.setReleaseYear(2022);
+        movie = entityManager.persist(movie);
+
+        showtime = new Showtime();
+        showtime.setMovie(movie);
+        showtime.setStartTime(ZonedDateTime.now().plusHours(1));
+        showtime.setEndTime(ZonedDateTime.now().plusHours(2));
+        showtime.setPrice(10.0);
+        showtime.setTheater("Test Theater");
+        showtime = entityManager.persistAndFlush(showtime);
+    }
+
+    @Test
+    void shouldInsertBookingWithShowtimeStart() {
+        OptionalLong id = jdbcBookingRepository.insert(showtime.getId(), 5, "user123");
+
+        assertTrue(id.isPresent());
+        entityManager.clear();
+        Booking booking = bookingRepository.findById(id.getAsLong()).orElseThrow();
+        assertEquals(showtime.getId(), booking.getShowtime().getId());
+        assertEquals(5, booking.getSeatNumber());
+        assertEquals("user123", booking.getUserId());
+        assertEquals(showtime.getStartTime().toInstant(), booking.getShowtimeStart().toInstant());
+        assertEquals(0L, booking.getVersion());
+    }
+
+    @Test
+    void shouldReturnEmptyForUnknownShowtime() {
+        assertTrue(jdbcBookingRepository.insert(999_999L, 5, "user123").isEmpty());
+        assertEquals(0, bookingRepository.count());
+    }
+
+    @Test
+    void shouldRejectTakenSeat() {
+        jdbcBookingRepository.insert(showtime.getId(), 5, "user123");
+
+        assertThrows(DuplicateKeyException.class,
+                () -> jdbcBookingRepository.insert(showtime.getId(), 5, "user456"));
+    }
+
+    @Test
+    void shouldInsertOutboxEvent() {
+        OutboxEvent event = new OutboxEvent(null, "BookingCreated", 42L, "{\"bookingId\":42}", Instant.now());
+
+        jdbcBookingRepository.insertOutboxEvent(event);
+
+        OutboxEvent stored = outboxEventRepository.findAll().get(0);
+        assertEquals("BookingCreated", stored.getEventType());
+        assertEquals(42L, stored.getAggregateId());
+        assertEquals("{\"bookingId\":42}", stored.getPayload());
+    }
+}
@@ -0,0 +1,106 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class RepositoryIndexCoverageTest {
+
+    private static final List<Class<?>> CHECKED_REPOSITORIES = List.of(ShowtimeRepository.class, BookingRepository.class, CatalogBatchRepository.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void everyQueryMethodDeclaresItsIndex() {
+        List<String> missing = new ArrayList<>();
+        for (Class<?> repository : CHECKED_REPOSITORIES) {
+            for (Method method : queryMethods(repository)) {
+                if (method.getAnnotationsByType(IndexedBy.class).length == 0) {
+                    missing.add(repository.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+        assertTrue(missing.isEmpty(), "Query methods without @IndexedBy: " + missing);
+    }
+
+    @Test
+    void everyDeclaredIndexExistsInMigratedSchema() throws SQLException {
+        List<String> unsupported = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Map<String, List<List<String>>> indexesByTable = new HashMap<>();
+            for (Class<?> repository : CHECKED_REPOSITORIES) {
+                for (Method method : queryMethods(repository)) {
+                    for (IndexedBy indexedBy : method.getAnnotationsByType(IndexedBy.class)) {
+                        List<List<String>> indexes = indexesByTable.computeIfAbsent(
+                                indexedBy.table(), table -> indexColumns(metaData, table));
+                        List<String> expected = Arrays.asList(indexedBy.columns());
+                        boolean supported = indexes.stream().anyMatch(columns ->
+                                columns.size() >= expected.size() && columns.subList(0, expected.size()).equals(expected));
+                        if (!supported) {
+                            unsupported.add(repository.getSimpleName() + "." + method.getName()
+                                    + " -> " + indexedBy.table() + expected);
+                        }
+                    }
+                }
+            }
+        }
+        assertTrue(unsupported.isEmpty(), "Queries without a supporting index: " + unsupported);
+    }
+
+    private static List<Method> queryMethods(Class<?> repository) {
+        return Arrays.stream(repository.getDeclaredMethods())
+                .filter(method -> !method.isSynthetic() && !method.isDefault()
+                        && !Modifier.isStatic(method.getModifiers()))
+                .toList();
+    }
+
+    private static List<List<String>> indexColumns(DatabaseMetaData metaData, String table) {
+        try {
+            String name = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+            // H2 backs every foreign key with an implicit index that PostgreSQL does not create, so those don't count
+            List<String> foreignKeyIndexPrefixes = new ArrayList<>();
+            try (ResultSet rs = metaData.getImportedKeys(null, null, name)) {
+                while (rs.next()) {
+                    foreignKeyIndexPrefixes.add(rs.getString("FK_NAME").toUpperCase(Locale.ROOT) + "_INDEX");
+                }
+            }
+            Map<String, TreeMap<Short, String>> indexes = new HashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(null, null, name, false, false)) {
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    String column = rs.getString("COLUMN_NAME");
+                    if (indexName == null || column == null || foreignKeyIndexPrefixes.stream()
+                            .anyMatch(prefix -> indexName.toUpperCase(Locale.ROOT).startsWith(prefix))) {
+                        continue;
+                    }
+                    indexes.computeIfAbsent(indexName, key -> new TreeMap<>())
+                            .put(rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+                }
+            }
+            assertFalse(indexes.isEmpty(), "No indexes found for table " + table);
+            return indexes.values().stream().map(columns -> (List<String>) new ArrayList<>(columns.values())).toList();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.Sequences;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.PooledOptimizer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(SequenceIdAllocator.class)
+class SequenceIdAllocatorTest {
+
+    @Autowired
+    private SequenceIdAllocator sequenceIdAllocator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldNotHandOutIdsHibernateUsesOnFreshSequence() {
+        // Hibernate's optimizer as the entities configure it, on a fresh sequence; the allocator
+        // takes its block right after Hibernate's first read, as when another node starts with it
+        PooledOptimizer optimizer = new PooledOptimizer(Long.class, Sequences.ALLOCATION_SIZE);
+        optimizer.injectInitialValue(1);
+        Set<Long> allocated = new HashSet<>();
+        AccessCallback sequence = new AccessCallback() {
+            @Override
+            public IntegralDataTypeHolder getNextValue() {
+                Long value = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR movies_seq", Long.class);
+                if (allocated.isEmpty()) {
+                    for (int i = 0; i < Sequences.ALLOCATION_SIZE; i++) {
+                        allocated.add(sequenceIdAllocator.nextId("movies_seq"));
+                    }
+                }
+                return IdentifierGeneratorHelper.getIntegralDataTypeHolder(Long.class).initialize(value);
+            }
+
+            @Override
+            public String getTenantIdentifier() {
+                return null;
+            }
+        };
+
+        Set<Long> persisted = new HashSet<>();
+        for (int i = 0; i < Sequences.ALLOCATION_SIZE; i++) {
+            persisted.add((Long) optimizer.generate(sequence));
+        }
+
+        assertEquals(Sequences.ALLOCATION_SIZE, allocated.size());
+        assertEquals(Sequences.ALLOCATION_SIZE, persisted.size());
+        persisted.retainAll(allocated);
+        assertEquals(Set.of(), persisted);
+    }
+}
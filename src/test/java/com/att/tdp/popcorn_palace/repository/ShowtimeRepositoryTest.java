@@ -74,7 +74,8 @@ class ShowtimeRepositoryTest {
         List<Showtime> overlapping = showtimeRepository.findOverlappingShowtimes(
                 "Theater 1",
                 startTime,
-                endTime
+                endTime,
+                startTime.minusHours(24)
         );
 
         assertEquals(1, overlapping.size());
@@ -89,7 +90,8 @@ class ShowtimeRepositoryTest {
         List<Showtime> overlapping = showtimeRepository.findOverlappingShowtimes(
                 "Theater 1",
                 startTime,
-                endTime
+                endTime,
+                startTime.minusHours(24)
         );
 
         assertTrue(overlapping.isEmpty());
@@ -103,7 +105,8 @@ class ShowtimeRepositoryTest {
         List<Showtime> overlapping = showtimeRepository.findOverlappingShowtimes(
                 "Theater 2",
                 startTime,
-                endTime
+                endTime,
+                startTime.minusHours(24)
         );
 
         assertEquals(1, overlapping.size());
@@ -5,8 +5,11 @@ import com.att.tdp.popcorn_palace.exception.booking.SeatAlreadyBookedException;
 import com.att.tdp.popcorn_palace.exception.showtime.ShowtimeNotFoundException;
 import com.att.tdp.popcorn_palace.model.Booking;
 import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.model.OutboxEvent;
 import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.JdbcBookingRepository;
 import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.outbox.BookingOutbox;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
@@ -17,8 +20,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,9 +39,16 @@ public class BookingServiceTest {
     @Mock
     private ShowtimeRepository showtimeRepository;
 
+    @Mock
+    private BookingOutbox bookingOutbox;
+
     @InjectMocks
     private BookingService bookingService;
 
+    // Not a @Mock field, so bookingService above keeps the default JPA path
+    private JdbcBookingRepository jdbcBookingRepository;
+    private BookingService jdbcBookingService;
+
     private BookingDTO bookingDTO;
     private Showtime showtime;
     private Booking savedBooking;
@@ -55,6 +67,9 @@ public class BookingServiceTest {
         savedBooking.setSeatNumber(1);
         savedBooking.setUserId("user123");
 
+        jdbcBookingRepository = mock(JdbcBookingRepository.class);
+        jdbcBookingService = new BookingService(bookingRepository, showtimeRepository, bookingOutbox, jdbcBookingRepository);
+
         ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
         validator = factory.getValidator();
     }
@@ -63,7 +78,7 @@ public class BookingServiceTest {
     void shouldCreateBookingSuccessfully() {
         when(showtimeRepository.findById(1L)).thenReturn(Optional.of(showtime));
         when(bookingRepository.existsByShowtimeAndSeatNumber(showtime, 1)).thenReturn(false);
-        when(bookingRepository.save(any(Booking.class))).thenReturn(savedBooking);
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenReturn(savedBooking);
 
         Booking result = bookingService.createBooking(bookingDTO);
 
@@ -75,7 +90,8 @@ public class BookingServiceTest {
 
         verify(showtimeRepository).findById(1L);
         verify(bookingRepository).existsByShowtimeAndSeatNumber(showtime, 1);
-        verify(bookingRepository).save(any(Booking.class));
+        verify(bookingRepository).saveAndFlush(any(Booking.class));
+        verify(bookingOutbox).recordBookingCreated(savedBooking);
     }
 
     @Test
@@ -90,7 +106,7 @@ public class BookingServiceTest {
 
         verify(showtimeRepository).findById(999L);
         verify(bookingRepository, never()).existsByShowtimeAndSeatNumber(any(), any());
-        verify(bookingRepository, never()).save(any());
+        verify(bookingRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -104,7 +120,41 @@ public class BookingServiceTest {
 
         verify(showtimeRepository).findById(1L);
         verify(bookingRepository).existsByShowtimeAndSeatNumber(showtime, 1);
-        verify(bookingRepository, never()).save(any());
+        verify(bookingRepository, never()).saveAndFlush(any());
+        verify(bookingOutbox, never()).recordBookingCreated(any());
+    }
+
+    @Test
+    void shouldCreateBookingThroughJdbcRepository() {
+        OutboxEvent event = new OutboxEvent();
+        when(jdbcBookingRepository.insert(1L, 1, "user123")).thenReturn(OptionalLong.of(7L));
+        when(bookingOutbox.bookingCreated(7L, 1L, 1, "user123")).thenReturn(event);
+
+        Booking result = jdbcBookingService.createBooking(bookingDTO);
+
+        assertEquals(7L, result.getId());
+        assertEquals(1, result.getSeatNumber());
+        assertEquals("user123", result.getUserId());
+        verify(jdbcBookingRepository).insertOutboxEvent(event);
+        verifyNoInteractions(bookingRepository, showtimeRepository);
+    }
+
+    @Test
+    void shouldThrowShowtimeNotFoundExceptionThroughJdbcRepository() {
+        when(jdbcBookingRepository.insert(1L, 1, "user123")).thenReturn(OptionalLong.empty());
+
+        assertThrows(ShowtimeNotFoundException.class, () -> jdbcBookingService.createBooking(bookingDTO));
+
+        verify(jdbcBookingRepository, never()).insertOutboxEvent(any());
+    }
+
+    @Test
+    void shouldThrowSeatAlreadyBookedExceptionThroughJdbcRepository() {
+        when(jdbcBookingRepository.insert(1L, 1, "user123")).thenThrow(new DuplicateKeyException("uk_bookings_showtime_seat"));
+
+        assertThrows(SeatAlreadyBookedException.class, () -> jdbcBookingService.createBooking(bookingDTO));
+
+        verify(jdbcBookingRepository, never()).insertOutboxEvent(any());
     }
 
     @Test
@@ -0,0 +1,86 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MovieDeletionJobTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private ShowtimeRepository showtimeRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ShowtimeService showtimeService;
+
+    private MovieDeletionJob movieDeletionJob;
+
+    @BeforeEach
+    void setUp() {
+        movieDeletionJob = new MovieDeletionJob(
+                movieRepository, showtimeRepository, bookingRepository, transactionTemplate, showtimeService, 2);
+
+        doAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        }).when(transactionTemplate).execute(any());
+        doCallRealMethod().when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void shouldDeleteShowtimesInChunksBeforeMovie() {
+        when(showtimeRepository.findIdsByMovieId(1L, Limit.of(2)))
+                .thenReturn(List.of(10L, 11L))
+                .thenReturn(List.of(12L))
+                .thenReturn(Collections.emptyList());
+
+        movieDeletionJob.run(1L);
+
+        InOrder inOrder = inOrder(bookingRepository, showtimeRepository, movieRepository);
+        inOrder.verify(bookingRepository).bulkDeleteByShowtimeIds(List.of(10L, 11L));
+        inOrder.verify(showtimeRepository).bulkDeleteByIds(List.of(10L, 11L));
+        inOrder.verify(bookingRepository).bulkDeleteByShowtimeIds(List.of(12L));
+        inOrder.verify(showtimeRepository).bulkDeleteByIds(List.of(12L));
+        inOrder.verify(bookingRepository).bulkDeleteByMovieId(1L);
+        inOrder.verify(showtimeRepository).bulkDeleteByMovieId(1L);
+        inOrder.verify(movieRepository).bulkDeleteById(1L);
+        verify(transactionTemplate, times(3)).executeWithoutResult(any());
+        verify(showtimeService).evictCoalescedShowtimes(List.of(10L, 11L));
+        verify(showtimeService).evictCoalescedShowtimes(List.of(12L));
+        verify(showtimeService).evictAllCoalescedShowtimes();
+    }
+
+    @Test
+    void shouldDeleteMovieWithoutShowtimes() {
+        when(showtimeRepository.findIdsByMovieId(1L, Limit.of(2))).thenReturn(Collections.emptyList());
+
+        movieDeletionJob.run(1L);
+
+        verify(bookingRepository, never()).bulkDeleteByShowtimeIds(any());
+        verify(movieRepository).bulkDeleteById(1L);
+    }
+}
@@ -4,17 +4,22 @@ import com.att.tdp.popcorn_palace.dto.MovieDTO;
 import com.att.tdp.popcorn_palace.exception.movie.MovieAlreadyExistsException;
 import com.att.tdp.popcorn_palace.exception.movie.MovieNotFoundException;
 import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.CatalogBatchRepository;
 import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,7 +32,21 @@ class MovieServiceTest {
     @Mock
     private MovieRepository movieRepository;
 
-    @InjectMocks
+    @Mock
+    private ShowtimeRepository showtimeRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private CatalogBatchRepository catalogBatchRepository;
+
+    @Mock
+    private MovieDeletionJob movieDeletionJob;
+
+    @Mock
+    private ShowtimeService showtimeService;
+
     private MovieService movieService;
 
     private Movie movie;
@@ -35,6 +54,9 @@ class MovieServiceTest {
 
     @BeforeEach
     void setUp() {
+        movieService = new MovieService(movieRepository, showtimeRepository, bookingRepository, catalogBatchRepository,
+                movieDeletionJob, showtimeService, Duration.ZERO);
+
         movie = new Movie();
         movie.setId(1L);
         movie.setTitle("Inception");
@@ -122,27 +144,55 @@ class MovieServiceTest {
     }
 
     @Test
-    void shouldDeleteExistingMovie() {
+    void shouldDeleteExistingMovieWithCascade() {
         // Given
-        given(movieRepository.existsByTitle(movie.getTitle())).willReturn(true);
-        doNothing().when(movieRepository).deleteByTitle(movie.getTitle());
+        given(movieRepository.findIdByTitle(movie.getTitle())).willReturn(Optional.of(movie.getId()));
 
         // When
         movieService.deleteMovie(movie.getTitle());
 
         // Then
-        verify(movieRepository).existsByTitle(movie.getTitle());
-        verify(movieRepository).deleteByTitle(movie.getTitle());
+        InOrder inOrder = inOrder(bookingRepository, showtimeRepository, movieRepository);
+        inOrder.verify(bookingRepository).bulkDeleteByMovieId(movie.getId());
+        inOrder.verify(showtimeRepository).bulkDeleteByMovieId(movie.getId());
+        inOrder.verify(movieRepository).bulkDeleteById(movie.getId());
+        verify(showtimeService).evictAllCoalescedShowtimes();
     }
 
     @Test
     void shouldThrowWhenDeletingNonExistentMovie() {
         // Given
-        given(movieRepository.existsByTitle(movie.getTitle())).willReturn(false);
+        given(movieRepository.findIdByTitle(movie.getTitle())).willReturn(Optional.empty());
 
         // When & Then
         assertThrows(MovieNotFoundException.class, () -> movieService.deleteMovie(movie.getTitle()));
-        verify(movieRepository).existsByTitle(movie.getTitle());
-        verify(movieRepository, never()).deleteByTitle(movie.getTitle());
+        verify(movieRepository).findIdByTitle(movie.getTitle());
+        verify(bookingRepository, never()).bulkDeleteByMovieId(any());
+        verify(movieRepository, never()).bulkDeleteById(any());
+    }
+
+    @Test
+    void shouldHandOffBackgroundDeletionToJob() {
+        // Given
+        given(movieRepository.findIdByTitle(movie.getTitle())).willReturn(Optional.of(movie.getId()));
+        given(movieDeletionJob.deleteInBackground(movie.getId(), movie.getTitle()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        movieService.deleteMovieInBackground(movie.getTitle());
+
+        // Then
+        verify(movieDeletionJob).deleteInBackground(movie.getId(), movie.getTitle());
+        verify(movieRepository, never()).bulkDeleteById(any());
+    }
+
+    @Test
+    void shouldThrowWhenDeletingNonExistentMovieInBackground() {
+        // Given
+        given(movieRepository.findIdByTitle(movie.getTitle())).willReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(MovieNotFoundException.class, () -> movieService.deleteMovieInBackground(movie.getTitle()));
+        verify(movieDeletionJob, never()).deleteInBackground(any(), any());
     }
-} 
\ No newline at end of file
+}
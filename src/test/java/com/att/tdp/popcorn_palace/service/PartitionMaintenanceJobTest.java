@@ -0,0 +1,138 @@
+package com.att.tdp.popcorn_palace.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionMaintenanceJobTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private PartitionMaintenanceJob job;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2026-10-19T12:00:00Z"), ZoneOffset.UTC);
+        job = new PartitionMaintenanceJob(jdbcTemplate, transactionTemplate, 2, 3, true, clock);
+    }
+
+    private void givenPartitionedTables() {
+        when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Integer.class))).thenReturn(1);
+    }
+
+    @Test
+    void shouldCreateCurrentAndUpcomingMonths() {
+        givenPartitionedTables();
+        when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class))).thenReturn(Collections.emptyList());
+
+        job.maintain();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(6)).execute(sql.capture());
+        assertEquals("CREATE TABLE IF NOT EXISTS showtimes_p202610 PARTITION OF showtimes " +
+                "FOR VALUES FROM ('2026-10-01T00:00Z') TO ('2026-11-01T00:00Z')", sql.getAllValues().get(0));
+        assertEquals("CREATE TABLE IF NOT EXISTS bookings_p202610 PARTITION OF bookings " +
+                "FOR VALUES FROM ('2026-10-01T00:00Z') TO ('2026-11-01T00:00Z')", sql.getAllValues().get(1));
+        assertTrue(sql.getAllValues().get(4).startsWith("CREATE TABLE IF NOT EXISTS showtimes_p202612 "));
+        assertTrue(sql.getAllValues().get(5).contains("TO ('2027-01-01T00:00Z')"));
+    }
+
+    @Test
+    void shouldContinueWhenAMonthCannotBeCreated() {
+        givenPartitionedTables();
+        when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class))).thenReturn(Collections.emptyList());
+        lenient().doThrow(new DataIntegrityViolationException("default partition contains rows"))
+                .when(jdbcTemplate).execute(startsWith("CREATE TABLE IF NOT EXISTS showtimes_p202611"));
+
+        job.maintain();
+
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE IF NOT EXISTS showtimes_p202612"));
+        verify(jdbcTemplate, never()).execute(startsWith("CREATE TABLE IF NOT EXISTS bookings_p202611"));
+    }
+
+    @Test
+    void shouldNotFailWhenPartitionsCannotBeListed() {
+        givenPartitionedTables();
+        when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class)))
+                .thenThrow(new BadSqlGrammarException("list partitions", "SELECT ... FROM pg_inherits",
+                        new SQLException("Table \"PG_INHERITS\" not found")));
+
+        assertDoesNotThrow(() -> job.maintain());
+        verify(jdbcTemplate, times(6)).execute(startsWith("CREATE TABLE IF NOT EXISTS "));
+    }
+
+    @Test
+    void shouldSkipWhenTablesAreNotPartitioned() {
+        when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Integer.class)))
+                .thenThrow(new BadSqlGrammarException("check partitioning", "SELECT ... FROM pg_partitioned_table",
+                        new SQLException("Table \"PG_PARTITIONED_TABLE\" not found")));
+
+        job.maintain();
+        job.maintain();
+
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Integer.class));
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class));
+    }
+
+    @Test
+    void shouldSkipWhenDisabledAtRuntime() {
+        job = new PartitionMaintenanceJob(jdbcTemplate, transactionTemplate, 2, 3, false,
+                Clock.fixed(Instant.parse("2026-10-19T12:00:00Z"), ZoneOffset.UTC));
+
+        job.maintain();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void shouldDetachBookingsBeforeShowtimesForMonthsPastRetention() {
+        doAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        }).when(transactionTemplate).execute(any());
+        doCallRealMethod().when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class)))
+                .thenReturn(List.of("showtimes_default", "showtimes_p202606", "showtimes_p202607", "showtimes_p202610"));
+        when(jdbcTemplate.queryForList(contains("pg_constraint"), eq(String.class), eq("bookings_p202606")))
+                .thenReturn(List.of("fk_bookings_showtime"));
+        when(jdbcTemplate.queryForList(contains("pg_constraint"), eq(String.class), eq("showtimes_p202606")))
+                .thenReturn(List.of("fk_showtimes_movie"));
+
+        job.detachPartitionsBefore(YearMonth.of(2026, 7));
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE bookings DETACH PARTITION bookings_p202606");
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE bookings_p202606 DROP CONSTRAINT \"fk_bookings_showtime\"");
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE showtimes DETACH PARTITION showtimes_p202606");
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE showtimes_p202606 DROP CONSTRAINT \"fk_showtimes_movie\"");
+        verify(jdbcTemplate, never()).execute(contains("p202607"));
+        verify(jdbcTemplate, never()).execute(contains("default"));
+    }
+}
@@ -6,15 +6,19 @@ import com.att.tdp.popcorn_palace.exception.showtime.OverlappingShowtimeExceptio
 import com.att.tdp.popcorn_palace.exception.showtime.ShowtimeNotFoundException;
 import com.att.tdp.popcorn_palace.model.Movie;
 import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.CatalogBatchRepository;
 import com.att.tdp.popcorn_palace.repository.MovieRepository;
 import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.Optional;
@@ -32,7 +36,12 @@ class ShowtimeServiceTest {
     @Mock
     private MovieRepository movieRepository;
 
-    @InjectMocks
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private CatalogBatchRepository catalogBatchRepository;
+
     private ShowtimeService showtimeService;
 
     private ShowtimeDTO showtimeDTO;
@@ -41,6 +50,10 @@ class ShowtimeServiceTest {
 
     @BeforeEach
     void setUp() {
+        showtimeService = new ShowtimeService(showtimeRepository, movieRepository, bookingRepository, catalogBatchRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), Duration.ofHours(24), Duration.ZERO);
+        ZonedDateTime now = ZonedDateTime.now();
+
         movie = new Movie();
         movie.setId(1L);
         movie.setTitle("Inception");
@@ -49,22 +62,22 @@ class ShowtimeServiceTest {
         showtime.setId(1L);
         showtime.setMovie(movie);
         showtime.setTheater("Theater 1");
-        showtime.setStartTime(ZonedDateTime.now().plusHours(1));
-        showtime.setEndTime(ZonedDateTime.now().plusHours(3));
+        showtime.setStartTime(now.plusHours(1));
+        showtime.setEndTime(now.plusHours(3));
         showtime.setPrice(12.99);
 
         showtimeDTO = new ShowtimeDTO();
         showtimeDTO.setMovieId(1L);
         showtimeDTO.setTheater("Theater 1");
-        showtimeDTO.setStartTime(ZonedDateTime.now().plusHours(1));
-        showtimeDTO.setEndTime(ZonedDateTime.now().plusHours(3));
+        showtimeDTO.setStartTime(now.plusHours(1));
+        showtimeDTO.setEndTime(now.plusHours(3));
         showtimeDTO.setPrice(12.99);
     }
 
     @Test
     void shouldAddShowtimeSuccessfully() {
         when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
-        when(showtimeRepository.findOverlappingShowtimes(any(), any(), any()))
+        when(showtimeRepository.findOverlappingShowtimes(any(), any(), any(), any()))
                 .thenReturn(Collections.emptyList());
         when(showtimeRepository.save(any())).thenReturn(showtime);
 
@@ -85,7 +98,7 @@ class ShowtimeServiceTest {
     @Test
     void shouldThrowOverlappingShowtimeExceptionWhenTimesOverlap() {
         when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
-        when(showtimeRepository.findOverlappingShowtimes(any(), any(), any()))
+        when(showtimeRepository.findOverlappingShowtimes(any(), any(), any(), any()))
                 .thenReturn(Collections.singletonList(showtime));
 
         assertThrows(OverlappingShowtimeException.class, () -> showtimeService.addShowtime(showtimeDTO));
@@ -99,11 +112,53 @@ class ShowtimeServiceTest {
         assertThrows(IllegalArgumentException.class, () -> showtimeService.addShowtime(showtimeDTO));
     }
 
+    @Test
+    void shouldRejectShowtimeLongerThanMaxDuration() {
+        showtimeDTO.setEndTime(showtimeDTO.getStartTime().plusHours(25));
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
+
+        assertThrows(IllegalArgumentException.class, () -> showtimeService.addShowtime(showtimeDTO));
+        verify(showtimeRepository, never()).findOverlappingShowtimes(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldBoundOverlapSearchByMaxDuration() {
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
+        when(showtimeRepository.findOverlappingShowtimes(any(), any(), any(), any()))
+                .thenReturn(Collections.emptyList());
+        when(showtimeRepository.save(any())).thenReturn(showtime);
+
+        showtimeService.addShowtime(showtimeDTO);
+
+        verify(showtimeRepository).findOverlappingShowtimes(
+                showtimeDTO.getTheater(),
+                showtimeDTO.getStartTime(),
+                showtimeDTO.getEndTime(),
+                showtimeDTO.getStartTime().minusHours(24));
+    }
+
+    @Test
+    void shouldMoveBookingsWhenStartTimeChanges() {
+        ZonedDateTime newStart = showtimeDTO.getStartTime().plusDays(1);
+        showtimeDTO.setStartTime(newStart);
+        showtimeDTO.setEndTime(newStart.plusHours(2));
+        when(showtimeRepository.findById(1L)).thenReturn(Optional.of(showtime));
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
+        when(showtimeRepository.findOverlappingShowtimes(any(), any(), any(), any()))
+                .thenReturn(Collections.emptyList());
+        when(showtimeRepository.saveAndFlush(any())).thenReturn(showtime);
+
+        showtimeService.updateShowtime(1L, showtimeDTO);
+
+        verify(showtimeRepository).saveAndFlush(showtime);
+        verify(bookingRepository).updateShowtimeStart(1L, newStart);
+    }
+
     @Test
     void shouldUpdateShowtimeSuccessfully() {
         when(showtimeRepository.findById(1L)).thenReturn(Optional.of(showtime));
         when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
-        when(showtimeRepository.findOverlappingShowtimes(any(), any(), any()))
+        when(showtimeRepository.findOverlappingShowtimes(any(), any(), any(), any()))
                 .thenReturn(Collections.emptyList());
         when(showtimeRepository.save(any())).thenReturn(showtime);
 
@@ -112,6 +167,7 @@ class ShowtimeServiceTest {
         assertNotNull(result);
         assertEquals(showtime.getTheater(), result.getTheater());
         verify(showtimeRepository).save(any());
+        verify(bookingRepository, never()).updateShowtimeStart(any(), any());
     }
 
     @Test
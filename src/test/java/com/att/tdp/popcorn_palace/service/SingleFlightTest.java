@@ -0,0 +1,143 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.exception.showtime.ShowtimeNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    void shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently(() -> singleFlight.load(1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "showtime 1";
+        }), singleFlight, release);
+
+        for (Future<String> result : results) {
+            assertEquals("showtime 1", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.size());
+    }
+
+    @Test
+    void shouldShareTheLeadersException() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently(() -> singleFlight.load(1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            throw new ShowtimeNotFoundException(1L);
+        }), singleFlight, release);
+
+        for (Future<String> result : results) {
+            Exception ex = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ShowtimeNotFoundException.class, ex.getCause());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.size());
+    }
+
+    @Test
+    void shouldLoadAgainOnceTheFlightLandedWithoutMicroTtl() {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.load(1L, () -> "load " + loads.incrementAndGet());
+
+        assertEquals("load 2", singleFlight.load(1L, () -> "load " + loads.incrementAndGet()));
+    }
+
+    @Test
+    void shouldServeResultsWithinTheMicroTtl() {
+        AtomicLong now = new AtomicLong();
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofMillis(50), now::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("load 1", singleFlight.load(1L, () -> "load " + loads.incrementAndGet()));
+        now.addAndGet(Duration.ofMillis(49).toNanos());
+        assertEquals("load 1", singleFlight.load(1L, () -> "load " + loads.incrementAndGet()));
+        now.addAndGet(Duration.ofMillis(1).toNanos());
+        assertEquals("load 2", singleFlight.load(1L, () -> "load " + loads.incrementAndGet()));
+    }
+
+    @Test
+    void shouldNotCacheFailuresWithinTheMicroTtl() {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofMinutes(1));
+
+        assertThrows(ShowtimeNotFoundException.class,
+                () -> singleFlight.load(1L, () -> { throw new ShowtimeNotFoundException(1L); }));
+
+        assertEquals("found", singleFlight.load(1L, () -> "found"));
+    }
+
+    @Test
+    void shouldReloadAfterInvalidation() {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofMinutes(1));
+        singleFlight.load(1L, () -> "before");
+
+        singleFlight.invalidate(1L);
+
+        assertEquals("after", singleFlight.load(1L, () -> "after"));
+    }
+
+    // The first caller blocks in its loader until every other caller is queued behind it
+    private static List<Future<String>> callConcurrently(Callable<String> call,
+                                                         SingleFlight<Long, String> singleFlight,
+                                                         CountDownLatch release) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        AtomicInteger arrived = new AtomicInteger();
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(call));
+            while (singleFlight.size() == 0) {
+                Thread.onSpinWait();
+            }
+            for (int i = 1; i < CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    arrived.incrementAndGet();
+                    return call.call();
+                }));
+            }
+            while (arrived.get() < CALLERS - 1) {
+                Thread.onSpinWait();
+            }
+            // Give the followers time to find the in-flight entry before the leader is released
+            Thread.sleep(100);
+            release.countDown();
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
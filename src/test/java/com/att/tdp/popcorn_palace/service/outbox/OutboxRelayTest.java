@@ -0,0 +1,83 @@
+package com.att.tdp.popcorn_palace.service.outbox;
+
+import com.att.tdp.popcorn_palace.model.OutboxEvent;
+import com.att.tdp.popcorn_palace.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxSink outboxSink;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxEventRepository, outboxSink, transactionTemplate, 2);
+        doAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        }).when(transactionTemplate).execute(any());
+    }
+
+    @Test
+    void shouldDrainFullBatchesAndDeleteDeliveredEvents() throws Exception {
+        when(outboxEventRepository.lockNextBatch(2))
+                .thenReturn(List.of(event(1L), event(2L)))
+                .thenReturn(List.of(event(3L)));
+
+        outboxRelay.relayPending();
+
+        InOrder inOrder = inOrder(outboxSink, outboxEventRepository);
+        inOrder.verify(outboxSink).publish(List.of(event(1L), event(2L)));
+        inOrder.verify(outboxEventRepository).deleteByIds(List.of(1L, 2L));
+        inOrder.verify(outboxSink).publish(List.of(event(3L)));
+        inOrder.verify(outboxEventRepository).deleteByIds(List.of(3L));
+        verify(outboxEventRepository, times(2)).lockNextBatch(2);
+    }
+
+    @Test
+    void shouldKeepEventsWhenSinkFails() throws Exception {
+        when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of(event(1L)));
+        doThrow(new IOException("disk full")).when(outboxSink).publish(any());
+
+        outboxRelay.relayPending();
+
+        verify(outboxEventRepository, never()).deleteByIds(any());
+    }
+
+    @Test
+    void shouldDoNothingWhenOutboxIsEmpty() throws Exception {
+        when(outboxEventRepository.lockNextBatch(2)).thenReturn(Collections.emptyList());
+
+        outboxRelay.relayPending();
+
+        verify(outboxSink, never()).publish(any());
+    }
+
+    private static OutboxEvent event(Long id) {
+        return new OutboxEvent(id, BookingOutbox.BOOKING_CREATED, id, "{}", Instant.EPOCH);
+    }
+}